@@ -0,0 +1,39 @@
+package bd.edu.just.backend.benchmarks;
+
+import bd.edu.just.backend.BackendApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * The full backend application context on an in-memory H2 database ({@code benchmark} profile),
+ * started once per benchmark fork. Startup seeding loads the office reference data and default
+ * users; {@link BenchmarkData#seedItemInstances} adds the item instances.
+ */
+@State(Scope.Benchmark)
+public class BackendContext {
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("benchmark")
+                .run();
+        BenchmarkData.seedItemInstances(getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,49 @@
+package bd.edu.just.backend.benchmarks;
+
+import bd.edu.just.backend.service.BarcodeGenerationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BarcodeGenerationService#generateBarcode} against a day that already has
+ * {@link BenchmarkData#SEEDED_INSTANCES} barcodes for the item: one prefix count plus one
+ * existence probe per call. Nothing is persisted, so every invocation sees the same state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BarcodeGenerationBenchmark {
+
+    private BarcodeGenerationService barcodeGenerationService;
+
+    @Setup
+    public void setUp(BackendContext backend) {
+        barcodeGenerationService = backend.getBean(BarcodeGenerationService.class);
+    }
+
+    @Benchmark
+    public String generateBarcode() {
+        return barcodeGenerationService.generateBarcode(BenchmarkData.SEEDED_ITEM_CODE);
+    }
+
+    /** Four callers contending for the generator lock. */
+    @Benchmark
+    @Threads(4)
+    public String generateBarcodeContended() {
+        return barcodeGenerationService.generateBarcode(BenchmarkData.SEEDED_ITEM_CODE);
+    }
+}
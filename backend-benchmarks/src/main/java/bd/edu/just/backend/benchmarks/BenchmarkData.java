@@ -0,0 +1,139 @@
+package bd.edu.just.backend.benchmarks;
+
+import bd.edu.just.backend.dto.ItemDTO;
+import bd.edu.just.backend.dto.ItemInstanceDTO;
+import bd.edu.just.backend.model.Item;
+import bd.edu.just.backend.model.ItemCategory;
+import bd.edu.just.backend.model.ItemInstance;
+import bd.edu.just.backend.model.Office;
+import bd.edu.just.backend.model.OfficeType;
+import bd.edu.just.backend.model.Purchase;
+import bd.edu.just.backend.model.PurchaseItem;
+import bd.edu.just.backend.model.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test data shared by the benchmarks: detached entity graphs for the conversion benchmarks,
+ * DTO lists for serialization, and rows inserted into the benchmark database.
+ */
+final class BenchmarkData {
+
+    /** Item code whose barcodes are seeded for today, as the generator sees them mid-day. */
+    static final String SEEDED_ITEM_CODE = "BENCH001";
+    static final int SEEDED_INSTANCES = 20_000;
+
+    private BenchmarkData() {}
+
+    static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("admin");
+        user.setName("System Administrator");
+        return user;
+    }
+
+    static Item item(long id) {
+        ItemCategory category = new ItemCategory("Electronics", null, "ELEC", null);
+        category.setId(1L);
+        Item item = new Item("Laptop " + id, null, category, "ITM" + id, "Benchmark item " + id);
+        item.setId(id);
+        return item;
+    }
+
+    static Purchase purchase(int lines) {
+        Purchase purchase = new Purchase("Benchmark Vendor", LocalDate.now(), user());
+        purchase.setId(1L);
+        purchase.setInvoiceNumber("INV-0001");
+        List<PurchaseItem> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            PurchaseItem purchaseItem = new PurchaseItem(purchase, item(i + 1), 5, 1250.0);
+            purchaseItem.setId((long) i + 1);
+            items.add(purchaseItem);
+        }
+        purchase.setPurchaseItems(items);
+        purchase.setTotalPrice(lines * 5 * 1250.0);
+        return purchase;
+    }
+
+    static List<ItemInstance> itemInstances(int count) {
+        Purchase purchase = purchase(1);
+        Office office = new Office("Department of CSE", null, OfficeType.DEPARTMENT, "CSE", null);
+        office.setId(10L);
+        List<ItemInstance> instances = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ItemInstance instance = new ItemInstance(item(i % 50 + 1), purchase,
+                    String.format("20240101-ITM%d-%06d", i % 50 + 1, i + 1), 1250.0, purchase.getPurchasedBy());
+            instance.setId((long) i + 1);
+            if (i % 2 == 0) {
+                instance.setStatus(ItemInstance.ItemInstanceStatus.DISTRIBUTED);
+                instance.setDistributedToOffice(office);
+                instance.setDistributedAt(LocalDateTime.now());
+            }
+            instances.add(instance);
+        }
+        return instances;
+    }
+
+    static List<ItemDTO> itemDTOs(int count) {
+        List<ItemDTO> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new ItemDTO((long) i + 1, "Item " + i, "আইটেম " + i, (long) i % 20 + 1, "Category " + i % 20,
+                    "ITM" + i, "Benchmark item " + i, 1L, "Piece", "pcs", i % 100, true));
+        }
+        return items;
+    }
+
+    static List<ItemInstanceDTO> itemInstanceDTOs(int count) {
+        List<ItemInstanceDTO> dtos = new ArrayList<>(count);
+        for (ItemInstance instance : itemInstances(count)) {
+            ItemInstanceDTO dto = new ItemInstanceDTO();
+            dto.setId(instance.getId());
+            dto.setItemId(instance.getItem().getId());
+            dto.setItemName(instance.getItem().getName());
+            dto.setItemCode(instance.getItem().getCode());
+            dto.setBarcode(instance.getBarcode());
+            dto.setUnitPrice(instance.getUnitPrice());
+            dto.setStatus(instance.getStatus().name());
+            dto.setPurchaseId(1L);
+            dto.setVendorName("Benchmark Vendor");
+            dto.setPurchaseDate(LocalDate.now());
+            dto.setCreatedAt(LocalDateTime.now());
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    /**
+     * Inserts {@link #SEEDED_INSTANCES} item instances with today's barcode prefix for
+     * {@link #SEEDED_ITEM_CODE}, so barcode generation counts and probes a realistically full day.
+     */
+    static void seedItemInstances(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long ownerId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'admin'", Long.class);
+
+        jdbcTemplate.update("INSERT INTO item_categories (name, code, is_active, created_at) VALUES (?, ?, TRUE, ?)",
+                "Benchmark", "BENCH", now);
+        Long categoryId = jdbcTemplate.queryForObject("SELECT id FROM item_categories WHERE code = 'BENCH'", Long.class);
+        jdbcTemplate.update("INSERT INTO items (name, category_id, code, quantity, is_active, created_at) " +
+                "VALUES (?, ?, ?, ?, TRUE, ?)", "Benchmark item", categoryId, SEEDED_ITEM_CODE, SEEDED_INSTANCES, now);
+        Long itemId = jdbcTemplate.queryForObject("SELECT id FROM items WHERE code = ?", Long.class, SEEDED_ITEM_CODE);
+        jdbcTemplate.update("INSERT INTO purchases (total_price, vendor_name, purchase_date, purchased_by, is_active, " +
+                "created_at) VALUES (?, ?, ?, ?, TRUE, ?)", 0.0, "Benchmark Vendor", LocalDate.now(), ownerId, now);
+        Long purchaseId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM purchases", Long.class);
+
+        String prefix = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-" + SEEDED_ITEM_CODE + "-";
+        List<Object[]> rows = new ArrayList<>(SEEDED_INSTANCES);
+        for (int i = 1; i <= SEEDED_INSTANCES; i++) {
+            rows.add(new Object[]{itemId, purchaseId, prefix + String.format("%06d", i), 100.0, ownerId, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO item_instances (item_id, purchase_id, barcode, unit_price, status, " +
+                "owner_id, created_at) VALUES (?, ?, ?, ?, 'IN_STOCK', ?, ?)", rows);
+    }
+}
@@ -0,0 +1,62 @@
+package bd.edu.just.backend.benchmarks;
+
+import bd.edu.just.backend.dto.ItemInstanceDTO;
+import bd.edu.just.backend.dto.PurchaseDTO;
+import bd.edu.just.backend.model.ItemInstance;
+import bd.edu.just.backend.model.Purchase;
+import bd.edu.just.backend.service.PurchaseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO conversion in {@link PurchaseService} on detached, fully initialized entity
+ * graphs, so only the mapping itself is measured. The converters do not touch the service's
+ * collaborators, so no application context is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoConversionBenchmark {
+
+    @Param({"10", "200"})
+    private int purchaseLines;
+
+    private final PurchaseService purchaseService = new PurchaseService();
+
+    private Purchase purchase;
+    private List<ItemInstance> instances;
+
+    @Setup
+    public void setUp() {
+        purchase = BenchmarkData.purchase(purchaseLines);
+        instances = BenchmarkData.itemInstances(1000);
+    }
+
+    @Benchmark
+    public PurchaseDTO purchaseToDTO() {
+        return purchaseService.convertToDTO(purchase);
+    }
+
+    /** A purchase's instances, as returned by {@code GET /api/purchases/{id}/barcodes}. */
+    @Benchmark
+    public List<ItemInstanceDTO> itemInstancesToDTO() {
+        return instances.stream()
+                .map(purchaseService::convertItemInstanceToDTO)
+                .toList();
+    }
+}
@@ -0,0 +1,60 @@
+package bd.edu.just.backend.benchmarks;
+
+import bd.edu.just.backend.security.JwtUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtUtils} as used by {@code JwtAuthenticationFilter} on every authenticated request:
+ * signature validation followed by a second parse for the subject.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", "benchmark_secret_key_that_is_long_enough_for_hmac_sha_256");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3_600_000L);
+        jwtUtils.init();
+        token = jwtUtils.generateJwtToken("admin");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateJwtToken("admin");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    /** Validation plus subject extraction, the per-request cost in the authentication filter. */
+    @Benchmark
+    public String validateAndGetUsername() {
+        if (!jwtUtils.validateJwtToken(token)) {
+            throw new IllegalStateException("Benchmark token rejected");
+        }
+        return jwtUtils.getUserNameFromJwtToken(token);
+    }
+}
@@ -0,0 +1,42 @@
+package bd.edu.just.backend.benchmarks;
+
+import bd.edu.just.backend.dto.OfficeResponseDTO;
+import bd.edu.just.backend.service.OfficeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OfficeService#getAllOfficesDto} over the seeded office reference data: loading all
+ * offices and building the nested tree, including the lazy loads of each office's sub-offices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OfficeTreeBenchmark {
+
+    private OfficeService officeService;
+
+    @Setup
+    public void setUp(BackendContext backend) {
+        officeService = backend.getBean(OfficeService.class);
+    }
+
+    @Benchmark
+    public List<OfficeResponseDTO> buildOfficeTree() {
+        return officeService.getAllOfficesDto();
+    }
+}
@@ -0,0 +1,325 @@
+package bd.edu.just.backend.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Synthetic university dataset on top of the seeded office hierarchy: units, categories, items,
+ * staff with designations, years of purchases with their item instances, and distributions with
+ * the resulting office inventory.
+ *
+ * Output is fully determined by the scale and the seed, so two runs produce the same data. Rows
+ * are written with JDBC batches in insertion order; generated ids are read back by their unique
+ * codes rather than assumed. Volumes are realistic in shape, not a reconciled ledger: instance
+ * statuses and office inventory are not derived from the individual distribution rows.
+ */
+public class DatasetGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String PURCHASE_ITEM_SQL =
+            "INSERT INTO purchase_items (purchase_id, item_id, quantity, unit_price, total_price, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String DISTRIBUTION_SQL =
+            "INSERT INTO item_distributions (item_id, office_id, user_id, quantity, date_distributed, status, " +
+            "is_active, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final DateTimeFormatter BARCODE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String[] UNITS = {"Piece:pcs", "Box:box", "Set:set", "Ream:ream", "Litre:l", "Kilogram:kg",
+            "Pair:pair", "Packet:pkt"};
+
+    private static final String[] CATEGORIES = {"Computers", "Networking", "Printers", "Projectors", "Furniture",
+            "Stationery", "Laboratory Glassware", "Laboratory Chemicals", "Electrical", "Air Conditioning",
+            "Sports", "Library", "Cleaning", "Medical", "Vehicles", "Tools", "Audio Visual", "Kitchen",
+            "Security", "Storage"};
+
+    private static final String[] NOUNS = {"Laptop", "Desktop", "Monitor", "Router", "Switch", "Printer", "Toner",
+            "Projector", "Chair", "Table", "Cabinet", "Paper", "Pen", "Beaker", "Flask", "Microscope", "Cable",
+            "Bulb", "Fan", "Air Conditioner", "Football", "Book", "Mop", "First Aid Kit", "Drill", "Speaker",
+            "Camera", "Kettle", "Padlock", "Shelf"};
+
+    private static final String[] ADJECTIVES = {"Standard", "Heavy Duty", "Compact", "Premium", "Basic", "Wireless",
+            "Portable", "Industrial", "Ergonomic", "Digital"};
+
+    private static final String[] VENDORS = {"Jashore Computer House", "Bengal Traders", "Dhaka Scientific",
+            "Khulna Furniture Mart", "Rupsha Electronics", "Padma Stationers", "Meghna Supplies",
+            "Sundarban Engineering", "Delta Lab Equipment", "Jamuna Office Solutions"};
+
+    /** Dataset volumes. */
+    public enum Scale {
+        SMALL(2_000, 100, 1_500, 30_000, 6_000, 2),
+        MEDIUM(20_000, 400, 15_000, 300_000, 60_000, 5),
+        LARGE(50_000, 1_000, 40_000, 1_000_000, 150_000, 8);
+
+        final int items;
+        final int users;
+        final int purchases;
+        final int instances;
+        final int distributions;
+        final int years;
+
+        Scale(int items, int users, int purchases, int instances, int distributions, int years) {
+            this.items = items;
+            this.users = users;
+            this.purchases = purchases;
+            this.instances = instances;
+            this.distributions = distributions;
+            this.years = years;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Scale scale;
+    private final Random random;
+    private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    private List<Long> officeIds;
+    private List<Long> itemIds;
+    private List<Long> userIds;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, Scale scale, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.scale = scale;
+        this.random = new Random(seed);
+    }
+
+    public void generate() {
+        long start = System.currentTimeMillis();
+        officeIds = jdbcTemplate.queryForList("SELECT id FROM offices ORDER BY id", Long.class);
+        if (officeIds.isEmpty()) {
+            throw new IllegalStateException("No offices found; the office reference data must be loaded first");
+        }
+
+        generateUsers();
+        generateItems();
+        generatePurchases();
+        generateDistributions();
+
+        logger.info("Generated {} dataset in {} ms", scale, System.currentTimeMillis() - start);
+    }
+
+    public List<Long> getOfficeIds() {
+        return officeIds;
+    }
+
+    public List<Long> getItemIds() {
+        return itemIds;
+    }
+
+    /**
+     * Staff users (password {@code password}) with one designation each across the offices,
+     * plus an ADMIN designation for the default admin user so it can purchase.
+     */
+    private void generateUsers() {
+        Long adminRoleId = roleId("ROLE_ADMIN", true);
+        Long staffRoleId = roleId("ROLE_STAFF", false);
+        String passwordHash = passwordEncoder.encode("password");
+
+        List<Object[]> users = new ArrayList<>(scale.users);
+        for (int i = 1; i <= scale.users; i++) {
+            users.add(new Object[]{"staff" + i, "staff" + i + "@just.edu.bd", "Staff Member " + i, passwordHash});
+        }
+        batch("INSERT INTO users (username, email, name, password) VALUES (?, ?, ?, ?)", users);
+        userIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE username LIKE 'staff%' ORDER BY id", Long.class);
+
+        Long adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'admin'", Long.class);
+        List<Object[]> designations = new ArrayList<>(userIds.size() + 1);
+        designations.add(new Object[]{adminId, adminRoleId, officeIds.get(0), now, now});
+        for (Long userId : userIds) {
+            designations.add(new Object[]{userId, staffRoleId, randomOffice(), now, now});
+        }
+        batch("INSERT INTO designations (user_id, role_id, office_id, is_primary, is_active, assigned_at, created_at) " +
+                "VALUES (?, ?, ?, TRUE, TRUE, ?, ?)", designations);
+    }
+
+    private Long roleId(String name, boolean purchasingPower) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM roles WHERE name = ?", Long.class, name);
+        if (!ids.isEmpty()) {
+            return ids.get(0);
+        }
+        jdbcTemplate.update("INSERT INTO roles (name, description, purchasing_power) VALUES (?, ?, ?)",
+                name, name.substring("ROLE_".length()).toLowerCase(Locale.ROOT), purchasingPower);
+        return jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = ?", Long.class, name);
+    }
+
+    private void generateItems() {
+        List<Object[]> units = new ArrayList<>();
+        for (String unit : UNITS) {
+            String[] parts = unit.split(":");
+            units.add(new Object[]{parts[0], parts[1], now});
+        }
+        batch("INSERT INTO units (name, symbol, is_active, created_at) VALUES (?, ?, TRUE, ?)", units);
+        List<Long> unitIds = jdbcTemplate.queryForList("SELECT id FROM units ORDER BY id", Long.class);
+
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            categories.add(new Object[]{CATEGORIES[i], String.format("GEN-CAT%02d", i + 1), now});
+        }
+        batch("INSERT INTO item_categories (name, code, is_active, created_at) VALUES (?, ?, TRUE, ?)", categories);
+        List<Long> categoryIds = jdbcTemplate.queryForList(
+                "SELECT id FROM item_categories WHERE code LIKE 'GEN-CAT%' ORDER BY code", Long.class);
+
+        List<Object[]> items = new ArrayList<>(scale.items);
+        for (int i = 1; i <= scale.items; i++) {
+            String noun = NOUNS[random.nextInt(NOUNS.length)];
+            String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + noun + " " + (i % 97 + 1);
+            boolean active = random.nextInt(50) != 0;
+            items.add(new Object[]{name, categoryIds.get(random.nextInt(categoryIds.size())), itemCode(i),
+                    name + " for departmental use", unitIds.get(random.nextInt(unitIds.size())),
+                    random.nextInt(20) == 0 ? random.nextInt(10) : 100 + random.nextInt(5000), active, now});
+        }
+        batch("INSERT INTO items (name, category_id, code, description, unit_id, quantity, is_active, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", items);
+        itemIds = jdbcTemplate.queryForList("SELECT id FROM items WHERE code LIKE 'GEN-%' ORDER BY code", Long.class);
+    }
+
+    /**
+     * Purchases spread evenly over the last {@code years} years, one to eight lines each; every
+     * purchased unit becomes an item instance until the instance budget is used up.
+     */
+    private void generatePurchases() {
+        LocalDate firstDay = LocalDate.now().minusYears(scale.years);
+        int days = (int) (LocalDate.now().toEpochDay() - firstDay.toEpochDay());
+        Long adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'admin'", Long.class);
+
+        List<Object[]> purchases = new ArrayList<>(scale.purchases);
+        List<LocalDate> purchaseDates = new ArrayList<>(scale.purchases);
+        for (int i = 1; i <= scale.purchases; i++) {
+            LocalDate date = firstDay.plusDays((long) i * days / scale.purchases);
+            purchaseDates.add(date);
+            purchases.add(new Object[]{0.0, VENDORS[random.nextInt(VENDORS.length)], "+880-17" + (10000000 + i),
+                    date, invoiceNumber(i), adminId, Timestamp.valueOf(date.atTime(10, 0))});
+        }
+        batch("INSERT INTO purchases (total_price, vendor_name, vendor_contact, purchase_date, invoice_number, " +
+                "purchased_by, is_active, created_at) VALUES (?, ?, ?, ?, ?, ?, TRUE, ?)", purchases);
+        List<Long> purchaseIds = jdbcTemplate.queryForList(
+                "SELECT id FROM purchases WHERE invoice_number LIKE 'GEN-%' ORDER BY invoice_number", Long.class);
+
+        int averageUnits = Math.max(1, scale.instances / scale.purchases);
+        List<Object[]> lines = new ArrayList<>();
+        List<Object[]> totals = new ArrayList<>(purchaseIds.size());
+        List<Object[]> instances = new ArrayList<>(BATCH_SIZE);
+        int instanceCount = 0;
+        for (int p = 0; p < purchaseIds.size(); p++) {
+            Long purchaseId = purchaseIds.get(p);
+            LocalDate date = purchaseDates.get(p);
+            Timestamp createdAt = Timestamp.valueOf(date.atTime(10, 0));
+            int lineCount = 1 + random.nextInt(8);
+            double purchaseTotal = 0;
+            for (int l = 0; l < lineCount; l++) {
+                int itemIndex = random.nextInt(itemIds.size());
+                Long itemId = itemIds.get(itemIndex);
+                int quantity = 1 + random.nextInt(Math.max(1, 2 * averageUnits / lineCount));
+                double unitPrice = 50 + random.nextInt(200_000) / 2.0;
+                purchaseTotal += quantity * unitPrice;
+                lines.add(new Object[]{purchaseId, itemId, quantity, unitPrice, quantity * unitPrice, createdAt});
+
+                for (int u = 1; u <= quantity && instanceCount < scale.instances; u++, instanceCount++) {
+                    String barcode = date.format(BARCODE_DATE) + "-" + itemCode(itemIndex + 1).replace("-", "")
+                            + "-" + String.format("%06d", instanceCount + 1);
+                    boolean distributed = random.nextInt(10) < 4;
+                    instances.add(new Object[]{itemId, purchaseId, barcode, unitPrice,
+                            distributed ? "DISTRIBUTED" : "IN_STOCK", distributed ? randomOffice() : null,
+                            distributed ? Timestamp.valueOf(date.plusDays(random.nextInt(60)).atTime(12, 0)) : null,
+                            adminId, createdAt});
+                    if (instances.size() == BATCH_SIZE) {
+                        insertInstances(instances);
+                    }
+                }
+            }
+            totals.add(new Object[]{purchaseTotal, purchaseId});
+            if (lines.size() >= BATCH_SIZE) {
+                batch(PURCHASE_ITEM_SQL, lines);
+            }
+        }
+        batch(PURCHASE_ITEM_SQL, lines);
+        insertInstances(instances);
+        batch("UPDATE purchases SET total_price = ? WHERE id = ?", totals);
+        logger.info("Generated {} purchases with {} item instances", purchaseIds.size(), instanceCount);
+    }
+
+    private void insertInstances(List<Object[]> instances) {
+        batch("INSERT INTO item_instances (item_id, purchase_id, barcode, unit_price, status, distributed_to_office_id, " +
+                "distributed_at, owner_id, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", instances);
+    }
+
+    /**
+     * Distributions over the same period, skewed so a fifth of the offices receive most of them,
+     * and the office inventory they add up to.
+     */
+    private void generateDistributions() {
+        LocalDateTime firstDay = LocalDate.now().minusYears(scale.years).atStartOfDay();
+        long minutes = Duration.between(firstDay, LocalDateTime.now()).toMinutes();
+        String[] statuses = {"COMPLETED", "COMPLETED", "COMPLETED", "APPROVED", "PENDING", "REJECTED", "CANCELLED"};
+
+        Map<String, int[]> inventory = new HashMap<>();
+        List<Object[]> distributions = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < scale.distributions; i++) {
+            Long itemId = itemIds.get(random.nextInt(itemIds.size()));
+            Long officeId = random.nextInt(10) < 8
+                    ? officeIds.get(random.nextInt(Math.max(1, officeIds.size() / 5)))
+                    : randomOffice();
+            int quantity = 1 + random.nextInt(10);
+            String status = statuses[random.nextInt(statuses.length)];
+            Timestamp date = Timestamp.valueOf(firstDay.plusMinutes((long) i * minutes / scale.distributions));
+            distributions.add(new Object[]{itemId, officeId, userIds.get(random.nextInt(userIds.size())), quantity,
+                    date, status, random.nextInt(20) != 0, date});
+            if ("COMPLETED".equals(status)) {
+                inventory.computeIfAbsent(officeId + ":" + itemId, key -> new int[1])[0] += quantity;
+            }
+            if (distributions.size() == BATCH_SIZE) {
+                batch(DISTRIBUTION_SQL, distributions);
+            }
+        }
+        batch(DISTRIBUTION_SQL, distributions);
+
+        List<Object[]> rows = new ArrayList<>(inventory.size());
+        for (Map.Entry<String, int[]> entry : inventory.entrySet()) {
+            String[] key = entry.getKey().split(":");
+            rows.add(new Object[]{Long.valueOf(key[0]), Long.valueOf(key[1]), entry.getValue()[0], now, now});
+        }
+        batch("INSERT INTO office_inventory (office_id, item_id, quantity, last_updated, created_at) " +
+                "VALUES (?, ?, ?, ?, ?)", rows);
+        logger.info("Generated {} distributions and {} office inventory rows", scale.distributions, rows.size());
+    }
+
+    /** Inserts and clears the given rows. */
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+        rows.clear();
+    }
+
+    private Long randomOffice() {
+        return officeIds.get(random.nextInt(officeIds.size()));
+    }
+
+    private static String itemCode(int index) {
+        return String.format("GEN-%06d", index);
+    }
+
+    private static String invoiceNumber(int index) {
+        return String.format("GEN-INV-%07d", index);
+    }
+}
@@ -0,0 +1,67 @@
+package bd.edu.just.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-step latency samples and error counts collected by the virtual users, summarized as
+ * throughput and latency percentiles once the run is over.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Samples> steps = new ConcurrentHashMap<>();
+
+    void record(String step, long nanos, boolean success) {
+        Samples samples = steps.computeIfAbsent(step, key -> new Samples());
+        samples.add(nanos);
+        if (!success) {
+            samples.errors.incrementAndGet();
+        }
+    }
+
+    String report(double seconds) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-12s %9s %9s %8s %9s %9s %9s %9s%n",
+                "step", "requests", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        long total = 0;
+        for (String step : steps.keySet().stream().sorted().toList()) {
+            long[] latencies = steps.get(step).snapshot();
+            Arrays.sort(latencies);
+            total += latencies.length;
+            out.append(String.format("%-12s %9d %9.1f %8d %9.1f %9.1f %9.1f %9.1f%n",
+                    step, latencies.length, latencies.length / seconds, steps.get(step).errors.get(),
+                    percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+                    percentile(latencies, 1.0)));
+        }
+        out.append(String.format("%-12s %9d %9.1f%n", "total", total, total / seconds));
+        return out.toString();
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static class Samples {
+
+        private long[] values = new long[1024];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package bd.edu.just.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The scripted user session. Each virtual user logs in and performs a fixed number of actions
+ * before logging in again. Most users are staff who look at the dashboard, search items and
+ * scan barcodes; every fifth user is a storekeeper (the admin account) who also records
+ * purchases and distributions.
+ *
+ * Latencies are only recorded for requests started after the warm-up.
+ */
+class LoadScenario {
+
+    static final int ACTIONS_PER_SESSION = 20;
+
+    private static final String[] SEARCH_TERMS = {"laptop", "router", "chair", "toner", "projector", "cable",
+            "microscope", "paper", "standard", "wireless", "GEN-0001", "GEN-012"};
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final LatencyRecorder recorder;
+    private final Data data;
+    private final long measureFromNanos;
+    private final long endNanos;
+
+    /** Ids and values the virtual users pick from, read from the generated dataset. */
+    record Data(int staffUsers, Long adminId, List<Long> itemIdsInStock, List<Long> officeIds, List<String> barcodes) {}
+
+    LoadScenario(HttpClient httpClient, ObjectMapper objectMapper, URI baseUri, LatencyRecorder recorder, Data data,
+                 long measureFromNanos, long endNanos) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+        this.recorder = recorder;
+        this.data = data;
+        this.measureFromNanos = measureFromNanos;
+        this.endNanos = endNanos;
+    }
+
+    void runUser(int userIndex, long seed) {
+        Random random = new Random(seed + userIndex);
+        boolean storekeeper = userIndex % 5 == 0;
+        String username = storekeeper ? "admin" : "staff" + (userIndex % data.staffUsers() + 1);
+        String password = storekeeper ? "admin123" : "password";
+
+        while (System.nanoTime() < endNanos) {
+            String token = login(username, password);
+            if (token == null) {
+                continue;
+            }
+            for (int i = 0; i < ACTIONS_PER_SESSION && System.nanoTime() < endNanos; i++) {
+                int roll = random.nextInt(100);
+                if (storekeeper && roll < 10) {
+                    purchase(token, random);
+                } else if (storekeeper && roll < 30) {
+                    distribute(token, random);
+                } else if (roll < 50) {
+                    scan(token, random);
+                } else if (roll < 80) {
+                    search(token, random);
+                } else {
+                    call("dashboard", get("/api/dashboard/stats", token));
+                }
+            }
+        }
+    }
+
+    private String login(String username, String password) {
+        HttpRequest request = post("/api/auth/login", null, Map.of("username", username, "password", password));
+        HttpResponse<byte[]> response = call("login", request);
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body()).path("token").asText();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void search(String token, Random random) {
+        String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+        call("search", get("/api/items/search?query=" + URLEncoder.encode(term, StandardCharsets.UTF_8), token));
+    }
+
+    private void scan(String token, Random random) {
+        String barcode = data.barcodes().get(random.nextInt(data.barcodes().size()));
+        call("scan", get("/api/purchases/barcode/" + barcode, token));
+    }
+
+    private void purchase(String token, Random random) {
+        int lines = 1 + random.nextInt(3);
+        List<Map<String, Object>> items = random.ints(lines, 0, data.itemIdsInStock().size())
+                .mapToObj(i -> Map.<String, Object>of(
+                        "itemId", data.itemIdsInStock().get(i),
+                        "quantity", 1 + random.nextInt(3),
+                        "unitPrice", 100 + random.nextInt(50_000)))
+                .toList();
+        Map<String, Object> body = Map.of(
+                "vendorName", "Load Test Vendor",
+                "purchaseDate", LocalDate.now().toString(),
+                "purchasedById", data.adminId(),
+                "items", items);
+        call("purchase", post("/api/purchases", token, body));
+    }
+
+    private void distribute(String token, Random random) {
+        Map<String, Object> body = Map.of(
+                "itemId", data.itemIdsInStock().get(random.nextInt(data.itemIdsInStock().size())),
+                "officeId", data.officeIds().get(random.nextInt(data.officeIds().size())),
+                "userId", data.adminId(),
+                "quantity", 1,
+                "dateDistributed", LocalDate.now().toString());
+        call("distribute", post("/api/distributions", token, body));
+    }
+
+    private HttpResponse<byte[]> call(String step, HttpRequest request) {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = null;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            // Counted as an error below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (start >= measureFromNanos) {
+            boolean success = response != null && response.statusCode() < 400;
+            recorder.record(step, System.nanoTime() - start, success);
+        }
+        return response;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        try {
+            return builder.POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))).build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package bd.edu.just.backend.loadtest;
+
+import bd.edu.just.backend.BackendApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Starts the backend in-process on the {@code loadtest} profile (in-memory H2 unless a datasource
+ * is passed), fills it with a {@link DatasetGenerator} dataset and drives it over HTTP with
+ * {@link LoadScenario} virtual users, then prints throughput and latency percentiles per step.
+ *
+ * Options are Spring properties, e.g.
+ * {@code --loadtest.scale=medium --loadtest.users=100 --loadtest.warmup=30s --loadtest.duration=2m}.
+ * The same seed always generates the same dataset and request mix.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        try {
+            run(context);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void run(ConfigurableApplicationContext context) {
+        Environment env = context.getEnvironment();
+        DatasetGenerator.Scale scale = DatasetGenerator.Scale.valueOf(
+                env.getProperty("loadtest.scale", "small").toUpperCase(Locale.ROOT));
+        int users = env.getProperty("loadtest.users", Integer.class, 50);
+        Duration warmup = env.getProperty("loadtest.warmup", Duration.class, Duration.ofSeconds(15));
+        Duration duration = env.getProperty("loadtest.duration", Duration.class, Duration.ofSeconds(60));
+        long seed = env.getProperty("loadtest.seed", Long.class, 42L);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        DatasetGenerator generator = new DatasetGenerator(jdbcTemplate, context.getBean(PasswordEncoder.class),
+                scale, seed);
+        generator.generate();
+
+        LoadScenario.Data data = new LoadScenario.Data(
+                scale.users,
+                jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'admin'", Long.class),
+                jdbcTemplate.queryForList("SELECT id FROM items WHERE is_active = TRUE AND quantity >= 100 " +
+                        "ORDER BY id LIMIT 2000", Long.class),
+                generator.getOfficeIds(),
+                jdbcTemplate.queryForList("SELECT barcode FROM item_instances WHERE MOD(id, 7) = 0 " +
+                        "ORDER BY id LIMIT 5000", String.class));
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        System.out.printf("Running %d users against %s dataset: %s warm-up, %s measured%n",
+                users, scale, warmup, duration);
+        try (HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build()) {
+            LoadScenario scenario = new LoadScenario(httpClient, new ObjectMapper(),
+                    URI.create("http://localhost:" + port), recorder, data, measureFrom, end);
+            // Closing the executor waits for every virtual user to finish its last request
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < users; i++) {
+                    int userIndex = i;
+                    executor.submit(() -> scenario.runUser(userIndex, seed));
+                }
+            }
+        }
+
+        System.out.println(recorder.report(duration.toNanos() / 1e9));
+    }
+}
@@ -0,0 +1,68 @@
+package bd.edu.just.backend.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Metrics exposed through {@code /actuator/prometheus}.
+ *
+ * Request timers ({@code http.server.requests}) carry a {@code handler} tag naming the
+ * controller method, and both they and the application timers ({@code inventory.*}) publish
+ * percentile histograms so p95/p99 can be computed per endpoint in Prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public DefaultServerRequestObservationConvention handlerTaggingObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(handler(context));
+            }
+        };
+    }
+
+    @Bean
+    public MeterFilter latencyHistogramMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() == Meter.Type.TIMER
+                        && (id.getName().startsWith("http.server.requests") || id.getName().startsWith("inventory."))) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    /**
+     * "Controller#method" of the handler that served the request, or "none" when no
+     * controller method matched (static resources, 404s, requests rejected by security).
+     */
+    public static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+        return "none";
+    }
+
+    private static KeyValue handler(ServerRequestObservationContext context) {
+        return KeyValue.of("handler", handlerName(context.getCarrier()));
+    }
+}
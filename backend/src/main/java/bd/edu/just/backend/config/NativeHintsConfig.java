@@ -0,0 +1,129 @@
+package bd.edu.just.backend.config;
+
+import bd.edu.just.backend.dto.AuditLogDTO;
+import bd.edu.just.backend.dto.DashboardStatsDTO;
+import bd.edu.just.backend.dto.DesignationDTO;
+import bd.edu.just.backend.dto.ItemCategoryDTO;
+import bd.edu.just.backend.dto.ItemDTO;
+import bd.edu.just.backend.dto.ItemDistributionDTO;
+import bd.edu.just.backend.dto.ItemDistributionRequestDTO;
+import bd.edu.just.backend.dto.ItemImportErrorDTO;
+import bd.edu.just.backend.dto.ItemImportResultDTO;
+import bd.edu.just.backend.dto.ItemInstanceDTO;
+import bd.edu.just.backend.dto.OfficeResponseDTO;
+import bd.edu.just.backend.dto.PurchaseDTO;
+import bd.edu.just.backend.dto.PurchaseItemDTO;
+import bd.edu.just.backend.dto.UnitDTO;
+import bd.edu.just.backend.dto.UserDTO;
+import bd.edu.just.backend.model.AuditLog;
+import bd.edu.just.backend.model.Designation;
+import bd.edu.just.backend.model.Employee;
+import bd.edu.just.backend.model.Item;
+import bd.edu.just.backend.model.ItemCategory;
+import bd.edu.just.backend.model.ItemDistribution;
+import bd.edu.just.backend.model.ItemInstance;
+import bd.edu.just.backend.model.ItemMovement;
+import bd.edu.just.backend.model.JwtResponse;
+import bd.edu.just.backend.model.LoginRequest;
+import bd.edu.just.backend.model.Office;
+import bd.edu.just.backend.model.OfficeInventory;
+import bd.edu.just.backend.model.Purchase;
+import bd.edu.just.backend.model.PurchaseItem;
+import bd.edu.just.backend.model.ReferenceDataChecksum;
+import bd.edu.just.backend.model.Role;
+import bd.edu.just.backend.model.Unit;
+import bd.edu.just.backend.model.User;
+import bd.edu.just.backend.model.UserDetailsResponse;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the GraalVM native image (see the {@code native} Maven
+ * profile). Spring AOT infers most of what it needs; these cover what it cannot see:
+ * controllers returning {@code ResponseEntity<?>}, classes jjwt loads by name, and
+ * resources read at runtime. No effect on the JVM build.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.BackendRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class BackendRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final List<Class<?>> ENTITIES = List.of(
+                AuditLog.class, Designation.class, Employee.class, Item.class, ItemCategory.class, ItemDistribution.class,
+                ItemInstance.class, ItemMovement.class, Office.class, OfficeInventory.class, Purchase.class,
+                PurchaseItem.class, ReferenceDataChecksum.class, Role.class, Unit.class, User.class);
+
+        // Request/response bodies; most handlers are declared as ResponseEntity<?>
+        private static final List<Class<?>> PAYLOADS = List.of(
+                AuditLogDTO.class, DashboardStatsDTO.class, DesignationDTO.class, ItemCategoryDTO.class, ItemDTO.class,
+                ItemDistributionDTO.class, ItemDistributionRequestDTO.class, ItemImportErrorDTO.class,
+                ItemImportResultDTO.class, ItemInstanceDTO.class, OfficeResponseDTO.class, PurchaseDTO.class,
+                PurchaseItemDTO.class, UnitDTO.class, UserDTO.class,
+                JwtResponse.class, LoginRequest.class, UserDetailsResponse.class);
+
+        // Instantiated by jjwt-api through Classes.newInstance / ServiceLoader
+        private static final List<String> JJWT_TYPES = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : ENTITIES) {
+                hints.reflection().registerType(entity,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+            bindingRegistrar.registerReflectionHints(hints.reflection(), PAYLOADS.toArray(Class<?>[]::new));
+
+            // OpenAPI model built in SwaggerConfig and serialized by springdoc
+            bindingRegistrar.registerReflectionHints(hints.reflection(),
+                    OpenAPI.class, Info.class, Components.class, SecurityRequirement.class, SecurityScheme.class);
+
+            for (String type : JJWT_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            // JDK proxies created by datasource-proxy (SqlInstrumentationConfig)
+            for (Class<?> jdbcType : List.of(Connection.class, Statement.class, PreparedStatement.class,
+                    CallableStatement.class)) {
+                hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+            }
+
+            hints.resources().registerPattern("csv/*.csv");
+            hints.resources().registerPattern("db/changelog/*.xml");
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+            // Standard font metrics OpenPDF loads for barcode labels
+            hints.resources().registerPattern("com/lowagie/text/pdf/fonts/*");
+        }
+    }
+}
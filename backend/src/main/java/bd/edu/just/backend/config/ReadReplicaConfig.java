@@ -0,0 +1,50 @@
+package bd.edu.just.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes read-only transactions ({@code @Transactional(readOnly = true)} service methods, i.e.
+ * the GET endpoints) to a MySQL replica, taking their load off the primary. Enabled by setting
+ * {@code app.datasource.replica.url}; without it the auto-configured single pool is used.
+ *
+ * Both pools are created here rather than as beans so the statement-counting proxy wraps only
+ * the routing DataSource and every statement is still counted once.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setJdbcUrl(environment.getRequiredProperty("app.datasource.replica.url"));
+        replica.setUsername(environment.getProperty("app.datasource.replica.username", properties.determineUsername()));
+        replica.setPassword(environment.getProperty("app.datasource.replica.password", properties.determinePassword()));
+        binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        return new ReadReplicaRoutingDataSource(primary, replica);
+    }
+}
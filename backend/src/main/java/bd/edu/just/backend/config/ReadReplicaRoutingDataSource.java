@@ -0,0 +1,64 @@
+package bd.edu.just.backend.config;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.Map;
+
+/**
+ * Sends the connections of read-only transactions to the replica and everything else
+ * (writes, non-transactional work, Liquibase) to the primary.
+ *
+ * Transaction managers fetch a connection before the transaction's read-only flag is
+ * published, so the routing sits behind a {@link LazyConnectionDataSourceProxy}: the physical
+ * connection is only chosen when the first statement runs.
+ */
+public class ReadReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+            }
+        };
+        routing.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        setTargetDataSource(routing);
+    }
+
+    /**
+     * The primary pool itself, for reads that must not be routed to the replica.
+     */
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(replica);
+        closeQuietly(primary);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                // Shutting down; nothing useful to do
+            }
+        }
+    }
+}
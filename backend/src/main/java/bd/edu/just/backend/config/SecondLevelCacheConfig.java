@@ -0,0 +1,90 @@
+package bd.edu.just.backend.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Hibernate second-level and query cache for the small, rarely written reference entities
+ * (units, item categories, roles, offices), held on the heap by Ehcache through JCache.
+ *
+ * Writes made through JPA keep the cache coherent. Writes that bypass Hibernate (JDBC
+ * seeding) evict the affected region through {@code ReferenceCacheEvictor}. Hit and miss
+ * counts per region are published as {@code hibernate.second.level.cache.requests} and
+ * {@code hibernate.cache.query.requests}.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Entity regions and their heap size in entries; see @Cache on the entities
+    private static final Map<String, Long> ENTITY_REGIONS = Map.of(
+            "units", 1_000L,
+            "item-categories", 1_000L,
+            "roles", 200L,
+            "offices", 2_000L);
+
+    private static final String QUERY_REGION = "default-query-results-region";
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    // Upper bound on staleness after a write made outside the application (manual SQL)
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(30);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName()).getCacheManager();
+        ENTITY_REGIONS.forEach((region, entries) -> createCache(cacheManager, region, entries, TIME_TO_LIVE));
+        createCache(cacheManager, QUERY_REGION, 500, TIME_TO_LIVE);
+        // Timestamps must outlive every cached query result, so they never expire
+        createCache(cacheManager, TIMESTAMPS_REGION, 1_000, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Statistics feed the hit/miss metrics; per-session statistics logging stays off
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class),
+                "entityManagerFactory", Tags.empty()).bindTo(registry);
+    }
+
+    private static void createCache(CacheManager cacheManager, String region, long entries, Duration timeToLive) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CacheConfigurationBuilder<Object, Object> config = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(entries));
+        if (timeToLive != null) {
+            config = config.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive));
+        }
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(config));
+    }
+}
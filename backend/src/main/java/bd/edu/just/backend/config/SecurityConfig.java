@@ -4,6 +4,7 @@ import bd.edu.just.backend.security.JwtAuthenticationEntryPoint;
 import bd.edu.just.backend.security.JwtAuthenticationFilter;
 import bd.edu.just.backend.service.CustomUserDetailsService;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -44,7 +45,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${management.server.port:-1}") int managementPort) throws Exception {
         http
             .cors(cors -> cors.configure(http))
             .csrf(csrf -> csrf.disable())
@@ -52,6 +54,11 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**", "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/api/purchases/barcode/**", "/api/movements/**", "/api/distributions/**").permitAll()
+                // Liveness checks; other actuator endpoints need a token on the application port
+                .requestMatchers("/actuator/health/**").permitAll()
+                // The separate management port (production profile) is not published, so the
+                // Prometheus scrape needs no token there
+                .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort).permitAll()
                 .anyRequest().authenticated()
             );
 
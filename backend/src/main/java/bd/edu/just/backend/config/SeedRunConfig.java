@@ -0,0 +1,21 @@
+package bd.edu.just.backend.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Ends a {@code seed} profile run once the seeding runners have finished: the application is
+ * only ready after every CommandLineRunner has returned.
+ */
+@Configuration
+@Profile("seed")
+public class SeedRunConfig {
+
+    @EventListener
+    public void exitWhenSeeded(ApplicationReadyEvent event) {
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,145 @@
+package bd.edu.just.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Reports the SQL statements each API request executed: {@code X-Query-Count} and
+ * {@code X-DB-Time-Ms} response headers, the {@code inventory.request.sql.statements} and
+ * {@code inventory.request.sql.time} meters tagged by handler, and a warning listing the most
+ * frequent statement shapes when a request goes over the configured query budget.
+ *
+ * The headers are set just before the response is committed, so statements run while the body
+ * is being written (lazy loading during serialization) are only in the metrics and the log.
+ */
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementCountFilter.class);
+
+    static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    static final String DB_TIME_HEADER = "X-DB-Time-Ms";
+
+    private static final int LOGGED_SHAPES = 10;
+
+    private final MeterRegistry meterRegistry;
+    private final int queryBudget;
+
+    public SqlStatementCountFilter(MeterRegistry meterRegistry, int queryBudget) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        StatsHeaderResponse wrapped = new StatsHeaderResponse(response, stats);
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            SqlStatementStats.end();
+            wrapped.writeHeaders();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats stats) {
+        String handler = MetricsConfig.handlerName(request);
+        DistributionSummary.builder("inventory.request.sql.statements")
+                .description("SQL statements executed per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("inventory.request.sql.time")
+                .description("Database time spent per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(stats.getElapsedMillis()));
+
+        if (stats.getStatementCount() > queryBudget) {
+            StringBuilder shapes = new StringBuilder();
+            for (Map.Entry<String, Integer> shape : stats.getShapesByCount().stream().limit(LOGGED_SHAPES).toList()) {
+                shapes.append(System.lineSeparator()).append("  ")
+                        .append(shape.getValue()).append(" x ").append(shape.getKey());
+            }
+            logger.warn("{} {} ({}) executed {} SQL statements in {} ms, over the budget of {}:{}",
+                    request.getMethod(), request.getRequestURI(), handler,
+                    stats.getStatementCount(), stats.getElapsedMillis(), queryBudget, shapes);
+        }
+    }
+
+    /**
+     * Adds the statement headers the moment the response is about to be committed; after that
+     * point headers can no longer be changed.
+     */
+    private static class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementStats stats;
+        private boolean headersWritten;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(QUERY_COUNT_HEADER, Integer.toString(stats.getStatementCount()));
+            setHeader(DB_TIME_HEADER, Long.toString(stats.getElapsedMillis()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
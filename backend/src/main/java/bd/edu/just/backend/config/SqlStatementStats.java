@@ -0,0 +1,82 @@
+package bd.edu.just.backend.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements executed by the current request thread: count, total database time and how
+ * often each statement shape (the SQL with literals and IN lists collapsed) was run.
+ *
+ * Only populated between {@link #begin()} and {@link #end()}, which the request filter calls;
+ * statements on other threads (startup, background writers) are not tracked.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    // Distinct shapes kept per request; an N+1 shows up as one shape with a large count
+    private static final int MAX_SHAPES = 50;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statementCount;
+    private long elapsedMillis;
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+
+    private SqlStatementStats() {}
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void record(String sql) {
+        statementCount++;
+        String shape = shape(sql);
+        if (shapes.containsKey(shape) || shapes.size() < MAX_SHAPES) {
+            shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    void addElapsed(long millis) {
+        elapsedMillis += millis;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Statement shapes ordered by how often they ran, most frequent first.
+     */
+    public List<Map.Entry<String, Integer>> getShapesByCount() {
+        return shapes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .toList();
+    }
+
+    static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
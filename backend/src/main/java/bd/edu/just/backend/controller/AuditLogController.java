@@ -0,0 +1,29 @@
+package bd.edu.just.backend.controller;
+
+import bd.edu.just.backend.dto.AuditLogDTO;
+import bd.edu.just.backend.service.AuditLogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/audit-logs")
+public class AuditLogController {
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN')")
+    public ResponseEntity<PagedModel<AuditLogDTO>> getAuditLogs(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) String username,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(new PagedModel<>(
+                auditLogService.getAuditLogs(entityType, entityId, username, page, size)));
+    }
+}
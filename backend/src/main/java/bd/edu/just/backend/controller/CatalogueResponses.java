@@ -0,0 +1,32 @@
+package bd.edu.just.backend.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET for catalogue listings keyed on a {@code CatalogueVersions} ETag.
+ */
+final class CatalogueResponses {
+
+    // Browsers keep the body but revalidate on every use, which costs a 304 while unchanged
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private CatalogueResponses() {
+    }
+
+    /**
+     * 304 when the client's If-None-Match matches {@code etag}, without calling {@code body};
+     * otherwise 200 with the body. {@link WebRequest#checkNotModified} adds the ETag header in
+     * both cases, so the entity must not set it again.
+     */
+    static <T> ResponseEntity<T> conditional(WebRequest request, String etag, Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().cacheControl(CACHE_CONTROL).body(body.get());
+    }
+}
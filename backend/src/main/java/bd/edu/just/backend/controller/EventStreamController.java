@@ -0,0 +1,34 @@
+package bd.edu.just.backend.controller;
+
+import bd.edu.just.backend.service.InventoryEventBroadcaster;
+import bd.edu.just.backend.service.OfficeScopeService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events stream of committed inventory changes (stock deltas, distribution status
+ * changes, purchases), replacing polling on the dashboard and distribution pages. Events of
+ * offices outside the caller's scope are not sent.
+ */
+@RestController
+@RequestMapping("/api/events")
+public class EventStreamController {
+
+    private final InventoryEventBroadcaster broadcaster;
+    private final OfficeScopeService officeScopeService;
+
+    public EventStreamController(InventoryEventBroadcaster broadcaster, OfficeScopeService officeScopeService) {
+        this.broadcaster = broadcaster;
+        this.officeScopeService = officeScopeService;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents() {
+        // The scope is normally already cached by authentication, so no connection is taken
+        // here and held for the lifetime of the stream
+        return broadcaster.subscribe(officeScopeService.currentScope());
+    }
+}
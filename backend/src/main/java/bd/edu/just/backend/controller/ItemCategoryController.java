@@ -1,11 +1,14 @@
 package bd.edu.just.backend.controller;
 
 import bd.edu.just.backend.dto.ItemCategoryDTO;
+import bd.edu.just.backend.service.CatalogueVersions;
+import bd.edu.just.backend.service.CatalogueVersions.Catalogue;
 import bd.edu.just.backend.service.ItemCategoryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,9 +20,13 @@ public class ItemCategoryController {
     @Autowired
     private ItemCategoryService categoryService;
 
+    @Autowired
+    private CatalogueVersions catalogueVersions;
+
     @GetMapping
-    public ResponseEntity<List<ItemCategoryDTO>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public ResponseEntity<List<ItemCategoryDTO>> getAllCategories(WebRequest request) {
+        return CatalogueResponses.conditional(request, catalogueVersions.etag(Catalogue.CATEGORIES),
+                categoryService::getAllCategories);
     }
 
     @GetMapping("/{id}")
@@ -1,13 +1,21 @@
 package bd.edu.just.backend.controller;
 
 import bd.edu.just.backend.dto.ItemDTO;
+import bd.edu.just.backend.service.CatalogueVersions;
+import bd.edu.just.backend.service.CatalogueVersions.Catalogue;
+import bd.edu.just.backend.service.ItemImportService;
 import bd.edu.just.backend.service.ItemService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -17,9 +25,15 @@ public class ItemController {
     @Autowired
     private ItemService itemService;
 
+    @Autowired
+    private ItemImportService itemImportService;
+
+    @Autowired
+    private CatalogueVersions catalogueVersions;
+
     @GetMapping
-    public ResponseEntity<List<ItemDTO>> getAllItems() {
-        return ResponseEntity.ok(itemService.getAllItems());
+    public ResponseEntity<List<ItemDTO>> getAllItems(WebRequest request) {
+        return CatalogueResponses.conditional(request, catalogueVersions.etag(Catalogue.ITEMS), itemService::getAllItems);
     }
 
     @GetMapping("/{id}")
@@ -61,6 +75,19 @@ public class ItemController {
         }
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'PROCUREMENT_MANAGER', 'DEPARTMENT_HEAD')")
+    public ResponseEntity<?> importItems(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body("File is empty");
+        }
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(itemImportService.importItems(in, file.getOriginalFilename()));
+        } catch (IOException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error importing items: " + e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'PROCUREMENT_MANAGER', 'DEPARTMENT_HEAD', 'STAFF')")
     public ResponseEntity<ItemDTO> updateItem(@PathVariable Long id, @RequestBody ItemDTO itemDTO) {
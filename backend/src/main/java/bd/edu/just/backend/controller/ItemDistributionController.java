@@ -61,8 +61,8 @@ public class ItemDistributionController {
     }
 
     @GetMapping("/recent")
-    public ResponseEntity<List<ItemDistributionDTO>> getRecentDistributions() {
-        List<ItemDistributionDTO> distributions = distributionService.getRecentDistributions();
+    public ResponseEntity<List<ItemDistributionDTO>> getRecentDistributions(@RequestParam(defaultValue = "10") int limit) {
+        List<ItemDistributionDTO> distributions = distributionService.getRecentDistributions(limit);
         return ResponseEntity.ok(distributions);
     }
 
@@ -4,6 +4,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 // import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import bd.edu.just.backend.service.CatalogueVersions;
+import bd.edu.just.backend.service.CatalogueVersions.Catalogue;
 import bd.edu.just.backend.service.OfficeService;
 import bd.edu.just.backend.model.Office;
 import bd.edu.just.backend.dto.OfficeResponseDTO;
@@ -14,10 +17,12 @@ import java.util.List;
 public class OfficeController {
     
     private final OfficeService officeService;
+    private final CatalogueVersions catalogueVersions;
 
     @Autowired
-    public OfficeController(OfficeService officeService) {
+    public OfficeController(OfficeService officeService, CatalogueVersions catalogueVersions) {
         this.officeService = officeService;
+        this.catalogueVersions = catalogueVersions;
     }
 
     @PostMapping
@@ -28,9 +33,9 @@ public class OfficeController {
 
     @GetMapping
     // @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<OfficeResponseDTO>> getAllOffices() {
-        List<OfficeResponseDTO> offices = officeService.getAllOfficesDto();
-        return ResponseEntity.ok(offices);
+    public ResponseEntity<List<OfficeResponseDTO>> getAllOffices(WebRequest request) {
+        return CatalogueResponses.conditional(request, catalogueVersions.etag(Catalogue.OFFICES),
+                officeService::getAllOfficesDto);
     }
 
     @GetMapping("/parent")
@@ -2,13 +2,23 @@ package bd.edu.just.backend.controller;
 
 import bd.edu.just.backend.dto.PurchaseDTO;
 import bd.edu.just.backend.dto.ItemInstanceDTO;
+import bd.edu.just.backend.service.BarcodeLabelService;
+import bd.edu.just.backend.service.OfficeScope;
+import bd.edu.just.backend.service.OfficeScopeService;
 import bd.edu.just.backend.service.PurchaseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,6 +31,15 @@ public class PurchaseController {
     @Autowired
     private PurchaseService purchaseService;
 
+    @Autowired
+    private BarcodeLabelService barcodeLabelService;
+
+    @Autowired
+    private OfficeScopeService officeScopeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @GetMapping
     public ResponseEntity<List<PurchaseDTO>> getAllPurchases() {
         return ResponseEntity.ok(purchaseService.getAllPurchases());
@@ -36,8 +55,8 @@ public class PurchaseController {
     }
 
     @GetMapping("/recent")
-    public ResponseEntity<List<PurchaseDTO>> getRecentPurchases() {
-        return ResponseEntity.ok(purchaseService.getRecentPurchases());
+    public ResponseEntity<List<PurchaseDTO>> getRecentPurchases(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(purchaseService.getRecentPurchases(limit));
     }
 
     @GetMapping("/date-range")
@@ -78,7 +97,7 @@ public class PurchaseController {
                 }
             }
             
-            PurchaseDTO created = purchaseService.createPurchase(purchaseDTO);
+            PurchaseDTO created = timedCreatePurchase(purchaseDTO);
             return ResponseEntity.status(HttpStatus.CREATED).body(created);
         } catch (RuntimeException e) {
             e.printStackTrace();
@@ -92,6 +111,8 @@ public class PurchaseController {
         try {
             PurchaseDTO updated = purchaseService.updatePurchase(id, purchaseDTO);
             return ResponseEntity.ok(updated);
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -103,6 +124,10 @@ public class PurchaseController {
         try {
             purchaseService.deletePurchase(id);
             return ResponseEntity.noContent().build();
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -118,6 +143,40 @@ public class PurchaseController {
         }
     }
 
+    @GetMapping(value = "/{id}/labels", produces = MediaType.APPLICATION_PDF_VALUE)
+    public ResponseEntity<StreamingResponseBody> getPurchaseLabels(@PathVariable Long id) {
+        if (!purchaseService.existsInScope(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        if (barcodeLabelService.countPurchaseLabels(id) > BarcodeLabelService.MAX_LABELS_PER_REQUEST) {
+            return ResponseEntity.badRequest().build();
+        }
+        return pdf("labels-purchase-" + id + ".pdf", out -> barcodeLabelService.writePurchaseLabels(id, out));
+    }
+
+    @GetMapping(value = "/labels", produces = MediaType.APPLICATION_PDF_VALUE)
+    public ResponseEntity<StreamingResponseBody> getLabelsForBarcodeRange(@RequestParam String from,
+                                                                          @RequestParam String to) {
+        // Resolved here: the body is written on another thread, outside the request's security context
+        OfficeScope scope = officeScopeService.currentScope();
+        try {
+            if (barcodeLabelService.countRangeLabels(from, to, scope) > BarcodeLabelService.MAX_LABELS_PER_REQUEST) {
+                return ResponseEntity.badRequest().build();
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return pdf("labels-" + from + "-" + to + ".pdf",
+                out -> barcodeLabelService.writeRangeLabels(from, to, scope, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> pdf(String filename, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline().filename(filename).build().toString())
+                .body(body);
+    }
+
     @GetMapping("/barcode/{barcode}")
     public ResponseEntity<ItemInstanceDTO> getItemInstanceByBarcode(@PathVariable String barcode) {
         try {
@@ -127,4 +186,21 @@ public class PurchaseController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    // Timed outside the transactional service proxy so flush and commit are included, and a
+    // purchase only counts as a success once it has committed
+    private PurchaseDTO timedCreatePurchase(PurchaseDTO purchaseDTO) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            PurchaseDTO created = purchaseService.createPurchase(purchaseDTO);
+            outcome = "success";
+            return created;
+        } finally {
+            sample.stop(Timer.builder("inventory.purchase.create")
+                    .description("Time to create a purchase with its item instances and barcodes")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
 }
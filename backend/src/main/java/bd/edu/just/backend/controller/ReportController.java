@@ -0,0 +1,70 @@
+package bd.edu.just.backend.controller;
+
+import bd.edu.just.backend.service.ReportFormat;
+import bd.edu.just.backend.service.ReportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+
+    @Autowired
+    private ReportService reportService;
+
+    @GetMapping("/stock-valuation")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> getStockValuation(
+            @RequestParam(required = false) Long officeId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "csv") String format) {
+        return stream(() -> reportService.stockValuation(officeId, categoryId), format);
+    }
+
+    @GetMapping("/purchase-spend")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> getPurchaseSpend(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format) {
+        return stream(() -> reportService.purchaseSpend(startDate, endDate), format);
+    }
+
+    @GetMapping("/distribution-throughput")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> getDistributionThroughput(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long officeId,
+            @RequestParam(defaultValue = "csv") String format) {
+        return stream(() -> reportService.distributionThroughput(startDate, endDate, officeId), format);
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(Supplier<ReportService.Report> reportSupplier,
+                                                         String format) {
+        ReportFormat reportFormat;
+        ReportService.Report report;
+        try {
+            reportFormat = ReportFormat.fromParam(format);
+            report = reportSupplier.get();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String filename = report.getName() + "-" + LocalDate.now() + "." + reportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(reportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> reportService.write(report, reportFormat, out));
+    }
+}
@@ -1,11 +1,14 @@
 package bd.edu.just.backend.controller;
 
 import bd.edu.just.backend.dto.UnitDTO;
+import bd.edu.just.backend.service.CatalogueVersions;
+import bd.edu.just.backend.service.CatalogueVersions.Catalogue;
 import bd.edu.just.backend.service.UnitService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,9 +19,12 @@ public class UnitController {
     @Autowired
     private UnitService unitService;
 
+    @Autowired
+    private CatalogueVersions catalogueVersions;
+
     @GetMapping
-    public ResponseEntity<List<UnitDTO>> getAllUnits() {
-        return ResponseEntity.ok(unitService.getAllUnits());
+    public ResponseEntity<List<UnitDTO>> getAllUnits(WebRequest request) {
+        return CatalogueResponses.conditional(request, catalogueVersions.etag(Catalogue.UNITS), unitService::getAllUnits);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,37 @@
+package bd.edu.just.backend.dto;
+
+import java.time.LocalDateTime;
+
+public class AuditLogDTO {
+    private Long id;
+    private String entityType;
+    private Long entityId;
+    private String action;
+    private String username;
+    private String changes;
+    private LocalDateTime createdAt;
+
+    public AuditLogDTO() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public String getChanges() { return changes; }
+    public void setChanges(String changes) { this.changes = changes; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,25 @@
+package bd.edu.just.backend.dto;
+
+public class ItemImportErrorDTO {
+    private Long rowNumber;
+    private String code;
+    private String message;
+
+    public ItemImportErrorDTO() {}
+
+    public ItemImportErrorDTO(Long rowNumber, String code, String message) {
+        this.rowNumber = rowNumber;
+        this.code = code;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public Long getRowNumber() { return rowNumber; }
+    public void setRowNumber(Long rowNumber) { this.rowNumber = rowNumber; }
+
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,30 @@
+package bd.edu.just.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ItemImportResultDTO {
+    private Long totalRows = 0L;
+    private Long importedCount = 0L;
+    private Long failedCount = 0L;
+    private Boolean errorsTruncated = false;
+    private List<ItemImportErrorDTO> errors = new ArrayList<>();
+
+    public ItemImportResultDTO() {}
+
+    // Getters and Setters
+    public Long getTotalRows() { return totalRows; }
+    public void setTotalRows(Long totalRows) { this.totalRows = totalRows; }
+
+    public Long getImportedCount() { return importedCount; }
+    public void setImportedCount(Long importedCount) { this.importedCount = importedCount; }
+
+    public Long getFailedCount() { return failedCount; }
+    public void setFailedCount(Long failedCount) { this.failedCount = failedCount; }
+
+    public Boolean getErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(Boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+
+    public List<ItemImportErrorDTO> getErrors() { return errors; }
+    public void setErrors(List<ItemImportErrorDTO> errors) { this.errors = errors; }
+}
@@ -0,0 +1,107 @@
+package bd.edu.just.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One recorded change to an audited entity. Rows are written in batches by
+ * {@code AuditLogWriter}, never through this entity; it exists for querying.
+ */
+@Entity
+@Table(name = "audit_logs",
+       indexes = {
+           @Index(name = "idx_audit_logs_entity", columnList = "entity_type, entity_id"),
+           @Index(name = "idx_audit_logs_created_at", columnList = "created_at")
+       })
+public class AuditLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false, length = 50)
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Column(name = "action", nullable = false, length = 20)
+    private String action;
+
+    @Column(name = "username", length = 100)
+    private String username;
+
+    @Column(name = "changes", columnDefinition = "TEXT")
+    private String changes;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public AuditLog() {}
+
+    public AuditLog(String entityType, Long entityId, String action, String username, String changes) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.action = action;
+        this.username = username;
+        this.changes = changes;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getChanges() {
+        return changes;
+    }
+
+    public void setChanges(String changes) {
+        this.changes = changes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,39 @@
+package bd.edu.just.backend.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Version of a frontend catalogue (units, categories, offices, items), bumped in every
+ * transaction that changes it and served as the catalogue's ETag. Rows are written and read
+ * with JDBC by {@code CatalogueVersions}, never through this entity; it exists for the schema.
+ */
+@Entity
+@Table(name = "catalogue_versions")
+public class CatalogueVersion {
+
+    @Id
+    @Column(name = "catalogue", length = 20)
+    private String catalogue;
+
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+
+    public CatalogueVersion() {}
+
+    // Getters and Setters
+    public String getCatalogue() {
+        return catalogue;
+    }
+
+    public void setCatalogue(String catalogue) {
+        this.catalogue = catalogue;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "items")
+@Table(name = "items",
+       indexes = {
+           @Index(name = "idx_items_active_quantity", columnList = "is_active, quantity")
+       })
 public class Item {
 
     @Id
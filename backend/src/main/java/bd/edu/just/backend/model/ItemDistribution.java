@@ -5,7 +5,13 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "item_distributions")
+@Table(name = "item_distributions",
+       indexes = {
+           @Index(name = "idx_item_distributions_active_date", columnList = "is_active, date_distributed"),
+           @Index(name = "idx_item_distributions_item_active", columnList = "item_id, is_active, quantity"),
+           @Index(name = "idx_item_distributions_status_active", columnList = "status, is_active"),
+           @Index(name = "idx_item_distributions_office_active_date", columnList = "office_id, is_active, date_distributed")
+       })
 public class ItemDistribution {
 
     @Id
@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "item_instances")
+@Table(name = "item_instances",
+       indexes = {
+           @Index(name = "idx_item_instances_item_status_purchase", columnList = "item_id, status, purchase_id"),
+           @Index(name = "idx_item_instances_distributed_office", columnList = "distributed_to_office_id"),
+           @Index(name = "idx_item_instances_distribution", columnList = "distribution_id")
+       })
 public class ItemInstance {
 
     @Id
@@ -36,6 +41,10 @@ public class ItemInstance {
     @Column(name = "distributed_at")
     private LocalDateTime distributedAt;
 
+    // Set when the instance was allocated to an approved quantity-based distribution
+    @Column(name = "distribution_id")
+    private Long distributionId;
+
     @ManyToOne
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
@@ -136,6 +145,14 @@ public class ItemInstance {
         this.distributedAt = distributedAt;
     }
 
+    public Long getDistributionId() {
+        return distributionId;
+    }
+
+    public void setDistributionId(Long distributionId) {
+        this.distributionId = distributionId;
+    }
+
     public String getRemarks() {
         return remarks;
     }
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "item_movements")
+@Table(name = "item_movements",
+       indexes = {
+           @Index(name = "idx_item_movements_active_date", columnList = "is_active, date_moved")
+       })
 public class ItemMovement {
 
     @Id
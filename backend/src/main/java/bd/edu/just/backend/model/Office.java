@@ -1,6 +1,8 @@
 package bd.edu.just.backend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
@@ -10,6 +12,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "offices")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "offices")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -4,7 +4,8 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "office_inventory")
+@Table(name = "office_inventory",
+       uniqueConstraints = @UniqueConstraint(name = "unique_office_item", columnNames = {"office_id", "item_id"}))
 public class OfficeInventory {
 
     @Id
@@ -7,7 +7,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "purchases")
+@Table(name = "purchases",
+       indexes = {
+           @Index(name = "idx_purchases_active_date", columnList = "is_active, purchase_date"),
+           @Index(name = "idx_purchases_vendor_active", columnList = "vendor_name, is_active")
+       })
 public class Purchase {
 
     @Id
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "purchase_items")
+@Table(name = "purchase_items",
+       indexes = {
+           @Index(name = "idx_purchase_items_item_quantity", columnList = "item_id, quantity")
+       })
 public class PurchaseItem {
 
     @Id
@@ -0,0 +1,73 @@
+package bd.edu.just.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Content hash of a seeded reference-data row, keyed by data set and natural key, so
+ * unchanged seed rows can be skipped on startup.
+ */
+@Entity
+@Table(name = "reference_data_checksums",
+       uniqueConstraints = @UniqueConstraint(name = "unique_reference_data_record", columnNames = {"dataset", "record_key"}))
+public class ReferenceDataChecksum {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dataset", nullable = false, length = 50)
+    private String dataset;
+
+    @Column(name = "record_key", nullable = false)
+    private String recordKey;
+
+    @Column(name = "checksum", nullable = false, length = 64)
+    private String checksum;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ReferenceDataChecksum() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getDataset() {
+        return dataset;
+    }
+
+    public void setDataset(String dataset) {
+        this.dataset = dataset;
+    }
+
+    public String getRecordKey() {
+        return recordKey;
+    }
+
+    public void setRecordKey(String recordKey) {
+        this.recordKey = recordKey;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,10 +1,14 @@
 package bd.edu.just.backend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "units")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "units")
 public class Unit {
 
     @Id
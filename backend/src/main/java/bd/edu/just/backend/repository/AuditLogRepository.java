@@ -0,0 +1,21 @@
+package bd.edu.just.backend.repository;
+
+import bd.edu.just.backend.model.AuditLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+
+    @Query("SELECT a FROM AuditLog a WHERE (:entityType IS NULL OR a.entityType = :entityType) " +
+           "AND (:entityId IS NULL OR a.entityId = :entityId) " +
+           "AND (:username IS NULL OR a.username = :username)")
+    Page<AuditLog> search(@Param("entityType") String entityType,
+                          @Param("entityId") Long entityId,
+                          @Param("username") String username,
+                          Pageable pageable);
+}
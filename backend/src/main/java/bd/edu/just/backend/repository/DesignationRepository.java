@@ -37,5 +37,10 @@ public interface DesignationRepository extends JpaRepository<Designation, Long>
     @Query("SELECT DISTINCT d.user FROM Designation d WHERE d.role.purchasingPower = true AND d.isActive = true")
     List<User> findUsersWithPurchasingPower();
 
+    // (role name, role purchasing power, office id) for each active designation of the user
+    @Query("SELECT r.name, r.purchasingPower, d.office.id FROM Designation d JOIN d.role r " +
+           "WHERE d.user.username = :username AND d.isActive = true")
+    List<Object[]> findActiveGrantsByUsername(@Param("username") String username);
+
     boolean existsByUserAndRoleAndOfficeAndIsActive(User user, Role role, Office office, Boolean isActive);
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package bd.edu.just.backend.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import bd.edu.just.backend.model.ItemCategory;
 
@@ -11,10 +14,13 @@ import java.util.Optional;
 @Repository
 public interface ItemCategoryRepository extends JpaRepository<ItemCategory, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ItemCategory> findByCode(String code);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ItemCategory> findByName(String name);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ItemCategory> findByIsActiveTrue();
     
     @Query("SELECT COUNT(c) FROM ItemCategory c WHERE c.isActive = true")
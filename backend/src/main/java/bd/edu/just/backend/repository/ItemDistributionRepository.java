@@ -1,5 +1,6 @@
 package bd.edu.just.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +11,7 @@ import bd.edu.just.backend.model.Office;
 import bd.edu.just.backend.model.DistributionStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -22,15 +24,27 @@ public interface ItemDistributionRepository extends JpaRepository<ItemDistributi
     List<ItemDistribution> findByStatus(DistributionStatus status);
     
     List<ItemDistribution> findByIsActiveTrue();
+
+    List<ItemDistribution> findByOfficeIdIn(Collection<Long> officeIds);
     
     @Query("SELECT d FROM ItemDistribution d WHERE d.dateDistributed BETWEEN :startDate AND :endDate AND d.isActive = true")
     List<ItemDistribution> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT d FROM ItemDistribution d WHERE d.dateDistributed BETWEEN :startDate AND :endDate AND d.isActive = true " +
+           "AND d.office.id IN :officeIds")
+    List<ItemDistribution> findByDateRangeInOffices(@Param("startDate") LocalDateTime startDate,
+                                                    @Param("endDate") LocalDateTime endDate,
+                                                    @Param("officeIds") Collection<Long> officeIds);
     
     @Query("SELECT SUM(d.quantity) FROM ItemDistribution d WHERE d.item.id = :itemId AND d.isActive = true")
     Long getTotalDistributedForItem(@Param("itemId") Long itemId);
     
-    @Query("SELECT d FROM ItemDistribution d WHERE d.isActive = true ORDER BY d.dateDistributed DESC")
-    List<ItemDistribution> findRecentDistributions();
+    @Query("SELECT d FROM ItemDistribution d WHERE d.isActive = true ORDER BY d.dateDistributed DESC, d.id DESC")
+    List<ItemDistribution> findRecentDistributions(Pageable pageable);
+
+    @Query("SELECT d FROM ItemDistribution d WHERE d.isActive = true AND d.office.id IN :officeIds " +
+           "ORDER BY d.dateDistributed DESC, d.id DESC")
+    List<ItemDistribution> findRecentDistributionsInOffices(@Param("officeIds") Collection<Long> officeIds, Pageable pageable);
     
     @Query("SELECT COUNT(d) FROM ItemDistribution d WHERE d.status = :status AND d.isActive = true")
     Long countByStatus(@Param("status") DistributionStatus status);
@@ -3,11 +3,16 @@ package bd.edu.just.backend.repository;
 import bd.edu.just.backend.model.ItemInstance;
 import bd.edu.just.backend.model.Office;
 import bd.edu.just.backend.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +38,72 @@ public interface ItemInstanceRepository extends JpaRepository<ItemInstance, Long
     List<ItemInstance> findByDistributedToOffice(Office office);
 
     boolean existsByBarcode(String barcode);
+
+    boolean existsByItemIdAndStatusNot(Long itemId, ItemInstance.ItemInstanceStatus status);
     
     long countByBarcodeStartingWith(String barcodePrefix);
+
+    @Query("SELECT ii.barcode FROM ItemInstance ii WHERE ii.barcode IN :barcodes")
+    List<String> findExistingBarcodes(@Param("barcodes") Collection<String> barcodes);
+
+    /**
+     * Retires up to {@code count} of the purchase's in-stock instances of the item, newest first,
+     * and returns how many were retired; distributed instances are never touched.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "item_instances"))
+    @Query(value = "UPDATE item_instances SET status = 'RETIRED', updated_at = NOW() " +
+                   "WHERE purchase_id = :purchaseId AND item_id = :itemId AND status = 'IN_STOCK' " +
+                   "ORDER BY id DESC LIMIT :count", nativeQuery = true)
+    int retireInStock(@Param("purchaseId") Long purchaseId, @Param("itemId") Long itemId, @Param("count") int count);
+
+    /**
+     * Locks the purchase's in-stock instances and returns the item of each.
+     */
+    @Query(value = "SELECT item_id FROM item_instances WHERE purchase_id = :purchaseId AND status = 'IN_STOCK' " +
+                   "FOR UPDATE", nativeQuery = true)
+    List<Long> lockInStockItemIds(@Param("purchaseId") Long purchaseId);
+
+    /**
+     * Retires all of the purchase's in-stock instances and returns how many were retired;
+     * distributed instances are never touched.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "item_instances"))
+    @Query(value = "UPDATE item_instances SET status = 'RETIRED', updated_at = NOW() " +
+                   "WHERE purchase_id = :purchaseId AND status = 'IN_STOCK'", nativeQuery = true)
+    int retireAllInStock(@Param("purchaseId") Long purchaseId);
+
+    /**
+     * Locks up to {@code limit} in-stock instances of the item, oldest purchase first. Rows
+     * already locked by a concurrent allocation are skipped rather than waited for.
+     */
+    @Query(value = "SELECT id FROM item_instances WHERE item_id = :itemId AND status = 'IN_STOCK' " +
+                   "ORDER BY purchase_id, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockInStockForAllocation(@Param("itemId") Long itemId, @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "item_instances"))
+    @Query(value = "UPDATE item_instances SET status = 'DISTRIBUTED', distributed_to_office_id = :officeId, " +
+                   "distributed_at = NOW(), distribution_id = :distributionId, updated_at = NOW() " +
+                   "WHERE id IN (:ids)", nativeQuery = true)
+    int markAllocated(@Param("ids") Collection<Long> ids, @Param("officeId") Long officeId,
+                      @Param("distributionId") Long distributionId);
+
+    /**
+     * Puts the instances allocated to the distribution back in stock and returns how many there were.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "item_instances"))
+    @Query(value = "UPDATE item_instances SET status = 'IN_STOCK', distributed_to_office_id = NULL, " +
+                   "distributed_at = NULL, distribution_id = NULL, updated_at = NOW() " +
+                   "WHERE distribution_id = :distributionId AND status = 'DISTRIBUTED'", nativeQuery = true)
+    int releaseAllocated(@Param("distributionId") Long distributionId);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "item_instances"))
+    @Query(value = "UPDATE item_instances SET unit_price = :unitPrice, updated_at = NOW() " +
+                   "WHERE purchase_id = :purchaseId AND item_id = :itemId AND status <> 'RETIRED'", nativeQuery = true)
+    int updateUnitPrice(@Param("purchaseId") Long purchaseId, @Param("itemId") Long itemId,
+                        @Param("unitPrice") Double unitPrice);
 }
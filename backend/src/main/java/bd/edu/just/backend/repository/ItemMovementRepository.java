@@ -1,5 +1,6 @@
 package bd.edu.just.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,6 +26,6 @@ public interface ItemMovementRepository extends JpaRepository<ItemMovement, Long
     @Query("SELECT m FROM ItemMovement m WHERE m.dateMoved BETWEEN :startDate AND :endDate AND m.isActive = true")
     List<ItemMovement> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     
-    @Query("SELECT m FROM ItemMovement m WHERE m.isActive = true ORDER BY m.dateMoved DESC")
-    List<ItemMovement> findRecentMovements();
+    @Query("SELECT m FROM ItemMovement m WHERE m.isActive = true ORDER BY m.dateMoved DESC, m.id DESC")
+    List<ItemMovement> findRecentMovements(Pageable pageable);
 }
@@ -1,12 +1,17 @@
 package bd.edu.just.backend.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import bd.edu.just.backend.model.Item;
 import bd.edu.just.backend.model.ItemCategory;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,4 +37,24 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     
     @Query("SELECT SUM(i.quantity) FROM Item i WHERE i.isActive = true")
     Long getTotalStock();
+    
+    @Query("SELECT i.code FROM Item i")
+    List<String> findAllCodes();
+
+    @Query("SELECT COUNT(i) FROM Item i WHERE i.id IN :ids AND i.quantity < 0")
+    long countWithNegativeStock(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Takes the purchase's in-stock instances back out of stock in one statement: each item
+     * loses as many units as the purchase has instances of it in stock. Returns the number of
+     * items updated.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "items"))
+    @Query(value = "UPDATE items i SET quantity = quantity - (SELECT COUNT(*) FROM item_instances ii " +
+                   "WHERE ii.purchase_id = :purchaseId AND ii.item_id = i.id AND ii.status = 'IN_STOCK'), " +
+                   "updated_at = NOW() " +
+                   "WHERE i.id IN (SELECT ii.item_id FROM item_instances ii " +
+                   "WHERE ii.purchase_id = :purchaseId AND ii.status = 'IN_STOCK')", nativeQuery = true)
+    int reverseInStockForPurchase(@Param("purchaseId") Long purchaseId);
 }
@@ -3,11 +3,16 @@ package bd.edu.just.backend.repository;
 import bd.edu.just.backend.model.Item;
 import bd.edu.just.backend.model.Office;
 import bd.edu.just.backend.model.OfficeInventory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,14 +25,71 @@ public interface OfficeInventoryRepository extends JpaRepository<OfficeInventory
 
     List<OfficeInventory> findByItem(Item item);
 
+    List<OfficeInventory> findByItemAndOfficeIdIn(Item item, Collection<Long> officeIds);
+
     @Query("SELECT oi FROM OfficeInventory oi WHERE oi.office = :office AND oi.quantity > 0 ORDER BY oi.lastUpdated DESC")
     List<OfficeInventory> findAvailableItemsByOffice(@Param("office") Office office);
 
     @Query("SELECT SUM(oi.quantity) FROM OfficeInventory oi WHERE oi.item = :item")
     Long getTotalQuantityByItem(@Param("item") Item item);
 
+    @Query("SELECT SUM(oi.quantity) FROM OfficeInventory oi WHERE oi.item = :item AND oi.office.id IN :officeIds")
+    Long getTotalQuantityByItemInOffices(@Param("item") Item item, @Param("officeIds") Collection<Long> officeIds);
+
     @Query("SELECT oi FROM OfficeInventory oi WHERE oi.quantity > 0 ORDER BY oi.office.name, oi.item.name")
     List<OfficeInventory> findAllWithStock();
 
+    @Query("SELECT oi FROM OfficeInventory oi WHERE oi.quantity > 0 AND oi.office.id IN :officeIds " +
+           "ORDER BY oi.office.name, oi.item.name")
+    List<OfficeInventory> findAllWithStockInOffices(@Param("officeIds") Collection<Long> officeIds);
+
     boolean existsByOfficeAndItem(Office office, Item item);
-}
\ No newline at end of file
+
+    /**
+     * Adds {@code quantity} to the (office, item) row, creating it if missing, in one statement
+     * relying on the unique_office_item key. Returns 1 if a row was inserted, 2 if one was updated.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "office_inventory"))
+    @Query(value = "INSERT INTO office_inventory (office_id, item_id, quantity, last_updated, created_at, updated_at) " +
+                   "VALUES (:officeId, :itemId, :quantity, NOW(), NOW(), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), " +
+                   "last_updated = NOW(), updated_at = NOW()", nativeQuery = true)
+    int upsertAddQuantity(@Param("officeId") Long officeId, @Param("itemId") Long itemId,
+                          @Param("quantity") Integer quantity);
+
+    /**
+     * Sets the (office, item) row to {@code quantity}, creating it if missing.
+     * Returns 1 if a row was inserted, 2 if one was updated, 0 if it already had that quantity.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "office_inventory"))
+    @Query(value = "INSERT INTO office_inventory (office_id, item_id, quantity, last_updated, created_at, updated_at) " +
+                   "VALUES (:officeId, :itemId, :quantity, NOW(), NOW(), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE quantity = VALUES(quantity), " +
+                   "last_updated = NOW(), updated_at = NOW()", nativeQuery = true)
+    int upsertQuantity(@Param("officeId") Long officeId, @Param("itemId") Long itemId,
+                       @Param("quantity") Integer quantity);
+
+    /**
+     * Removes {@code quantity} from the (office, item) row if that leaves it with some stock.
+     * Returns the number of rows updated (0 or 1).
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "office_inventory"))
+    @Query(value = "UPDATE office_inventory SET quantity = quantity - :quantity, last_updated = NOW(), updated_at = NOW() " +
+                   "WHERE office_id = :officeId AND item_id = :itemId AND quantity > :quantity", nativeQuery = true)
+    int decrementQuantity(@Param("officeId") Long officeId, @Param("itemId") Long itemId,
+                          @Param("quantity") Integer quantity);
+
+    /**
+     * Deletes the (office, item) row if removing {@code quantity} would leave it empty or negative.
+     * Returns the number of rows deleted (0 or 1).
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "office_inventory"))
+    @Query(value = "DELETE FROM office_inventory " +
+                   "WHERE office_id = :officeId AND item_id = :itemId AND quantity <= :quantity", nativeQuery = true)
+    int deleteIfDepleted(@Param("officeId") Long officeId, @Param("itemId") Long itemId,
+                         @Param("quantity") Integer quantity);
+}
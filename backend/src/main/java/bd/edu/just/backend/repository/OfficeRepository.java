@@ -1,7 +1,20 @@
 package bd.edu.just.backend.repository;
 import bd.edu.just.backend.model.Office;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface OfficeRepository extends JpaRepository<Office, Long> {
-    
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Office> findAll();
+
+    // (office id, parent id) for every office that has a parent
+    @Query("SELECT o.id, o.parentOffice.id FROM Office o WHERE o.parentOffice IS NOT NULL")
+    List<Object[]> findParentLinks();
 }
\ No newline at end of file
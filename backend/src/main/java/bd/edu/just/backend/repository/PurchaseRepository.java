@@ -1,21 +1,41 @@
 package bd.edu.just.backend.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import bd.edu.just.backend.model.Purchase;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PurchaseRepository extends JpaRepository<Purchase, Long> {
     
     List<Purchase> findByIsActiveTrue();
+
+    // Purchases belong to the offices their purchaser holds an active designation in
+    @Query("SELECT p FROM Purchase p WHERE p.isActive = true AND " +
+           "EXISTS (SELECT d.id FROM Designation d WHERE d.user = p.purchasedBy AND d.isActive = true AND d.office.id IN :officeIds)")
+    List<Purchase> findActiveInOffices(@Param("officeIds") Collection<Long> officeIds);
+
+    @Query("SELECT COUNT(p) FROM Purchase p WHERE p.id = :id AND " +
+           "EXISTS (SELECT d.id FROM Designation d WHERE d.user = p.purchasedBy AND d.isActive = true AND d.office.id IN :officeIds)")
+    long countByIdInOffices(@Param("id") Long id, @Param("officeIds") Collection<Long> officeIds);
     
     @Query("SELECT p FROM Purchase p WHERE p.purchaseDate BETWEEN :startDate AND :endDate AND p.isActive = true")
     List<Purchase> findByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT p FROM Purchase p WHERE p.purchaseDate BETWEEN :startDate AND :endDate AND p.isActive = true AND " +
+           "EXISTS (SELECT d.id FROM Designation d WHERE d.user = p.purchasedBy AND d.isActive = true AND d.office.id IN :officeIds)")
+    List<Purchase> findByDateRangeInOffices(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                                            @Param("officeIds") Collection<Long> officeIds);
     
     @Query("SELECT p FROM Purchase p WHERE p.vendorName = :vendorName AND p.isActive = true")
     List<Purchase> findByVendor(@Param("vendorName") String vendorName);
@@ -26,9 +46,25 @@ public interface PurchaseRepository extends JpaRepository<Purchase, Long> {
     @Query("SELECT SUM(pi.quantity) FROM PurchaseItem pi WHERE pi.item.id = :itemId AND pi.purchase.isActive = true")
     Long getTotalQuantityPurchasedForItem(@Param("itemId") Long itemId);
     
-    @Query("SELECT p FROM Purchase p WHERE p.isActive = true ORDER BY p.purchaseDate DESC")
-    List<Purchase> findRecentPurchases();
+    // Newest first; the id tie-break keeps the order stable for same-day purchases
+    @Query("SELECT p FROM Purchase p WHERE p.isActive = true ORDER BY p.purchaseDate DESC, p.id DESC")
+    List<Purchase> findRecentPurchases(Pageable pageable);
+
+    @Query("SELECT p FROM Purchase p WHERE p.isActive = true AND " +
+           "EXISTS (SELECT d.id FROM Designation d WHERE d.user = p.purchasedBy AND d.isActive = true AND d.office.id IN :officeIds) " +
+           "ORDER BY p.purchaseDate DESC, p.id DESC")
+    List<Purchase> findRecentPurchasesInOffices(@Param("officeIds") Collection<Long> officeIds, Pageable pageable);
     
+    /**
+     * Soft-deletes the purchase without loading it or its lines; returns 0 if it is missing
+     * or already inactive.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "purchases"))
+    @Query(value = "UPDATE purchases SET is_active = false, updated_at = NOW() WHERE id = :id AND is_active = true",
+           nativeQuery = true)
+    int deactivate(@Param("id") Long id);
+
     @Query("SELECT DISTINCT p FROM Purchase p JOIN p.purchaseItems pi WHERE pi.item.id = :itemId AND p.isActive = true")
     List<Purchase> findByItemId(@Param("itemId") Long itemId);
 }
@@ -0,0 +1,13 @@
+package bd.edu.just.backend.repository;
+
+import bd.edu.just.backend.model.ReferenceDataChecksum;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReferenceDataChecksumRepository extends JpaRepository<ReferenceDataChecksum, Long> {
+
+    List<ReferenceDataChecksum> findByDataset(String dataset);
+}
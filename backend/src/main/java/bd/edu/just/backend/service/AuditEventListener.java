@@ -0,0 +1,202 @@
+package bd.edu.just.backend.service;
+
+import bd.edu.just.backend.model.AuditLog;
+import bd.edu.just.backend.model.Item;
+import bd.edu.just.backend.model.ItemDistribution;
+import bd.edu.just.backend.model.OfficeInventory;
+import bd.edu.just.backend.model.Purchase;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Hibernate listener that turns committed inserts, updates and deletes of the audited entities
+ * into {@link AuditLog} entries. Post-commit events are used so rolled-back changes are never
+ * logged; the entries are handed to {@link AuditLogWriter} and written asynchronously.
+ */
+@Component
+public class AuditEventListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private static final Set<Class<?>> AUDITED_ENTITIES =
+            Set.of(Item.class, OfficeInventory.class, ItemDistribution.class, Purchase.class);
+
+    // Bookkeeping columns that change on every write and carry no information
+    private static final Set<String> IGNORED_PROPERTIES = Set.of("createdAt", "updatedAt", "lastUpdated");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditLogWriter auditLogWriter;
+
+    public AuditEventListener(EntityManagerFactory entityManagerFactory, AuditLogWriter auditLogWriter) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.auditLogWriter = auditLogWriter;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return AUDITED_ENTITIES.contains(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (!requiresPostCommitHandling(event.getPersister())) {
+            return;
+        }
+        String changes = describeState(event.getPersister(), event.getSession(), event.getState());
+        record(event.getPersister(), event.getId(), "CREATE", changes);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!requiresPostCommitHandling(event.getPersister())) {
+            return;
+        }
+        String changes = describeChanges(event);
+        if (changes.isEmpty()) {
+            return;
+        }
+        record(event.getPersister(), event.getId(), "UPDATE", changes);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (!requiresPostCommitHandling(event.getPersister())) {
+            return;
+        }
+        String changes = describeState(event.getPersister(), event.getSession(), event.getDeletedState());
+        record(event.getPersister(), event.getId(), "DELETE", changes);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Rolled back: nothing to audit
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Rolled back: nothing to audit
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Rolled back: nothing to audit
+    }
+
+    /**
+     * Audits a change made with native SQL, which bypasses the Hibernate events. Like the
+     * event-based entries it is only recorded once the surrounding transaction commits.
+     */
+    public void recordNativeChange(Class<?> entityType, Long entityId, String action, String changes) {
+        AuditLog entry = new AuditLog(entityType.getSimpleName(), entityId, action, currentUsername(), changes);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            auditLogWriter.record(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                auditLogWriter.record(entry);
+            }
+        });
+    }
+
+    private void record(EntityPersister persister, Object id, String action, String changes) {
+        Long entityId = id instanceof Number number ? number.longValue() : null;
+        auditLogWriter.record(new AuditLog(persister.getMappedClass().getSimpleName(),
+                entityId, action, currentUsername(), changes));
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : "system";
+    }
+
+    /**
+     * "property: old -> new" for every changed property, or an empty string if only
+     * bookkeeping columns changed.
+     */
+    private String describeChanges(PostUpdateEvent event) {
+        Object[] oldState = event.getOldState();
+        Object[] state = event.getState();
+        if (oldState == null) {
+            return describeState(event.getPersister(), event.getSession(), state);
+        }
+
+        String[] names = event.getPersister().getPropertyNames();
+        Type[] types = event.getPersister().getPropertyTypes();
+        StringJoiner changes = new StringJoiner(", ");
+        for (int i = 0; i < names.length; i++) {
+            if (IGNORED_PROPERTIES.contains(names[i]) || types[i].isCollectionType()) {
+                continue;
+            }
+            String before = render(types[i], oldState[i], event.getSession());
+            String after = render(types[i], state[i], event.getSession());
+            if (!Objects.equals(before, after)) {
+                changes.add(names[i] + ": " + before + " -> " + after);
+            }
+        }
+        return changes.toString();
+    }
+
+    private String describeState(EntityPersister persister, SharedSessionContractImplementor session, Object[] state) {
+        if (state == null) {
+            return null;
+        }
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < names.length; i++) {
+            if (IGNORED_PROPERTIES.contains(names[i]) || types[i].isCollectionType() || state[i] == null) {
+                continue;
+            }
+            values.add(names[i] + ": " + render(types[i], state[i], session));
+        }
+        return values.toString();
+    }
+
+    /**
+     * Associations are shown by id so rendering never initializes a lazy proxy.
+     */
+    private static String render(Type type, Object value, SharedSessionContractImplementor session) {
+        if (value == null) {
+            return "null";
+        }
+        if (type instanceof EntityType entityType) {
+            Object id = session.getFactory().getMappingMetamodel()
+                    .getEntityDescriptor(entityType.getAssociatedEntityName())
+                    .getIdentifier(value, session);
+            return "#" + id;
+        }
+        return value.toString();
+    }
+}
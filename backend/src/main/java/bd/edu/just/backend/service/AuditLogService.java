@@ -0,0 +1,44 @@
+package bd.edu.just.backend.service;
+
+import bd.edu.just.backend.dto.AuditLogDTO;
+import bd.edu.just.backend.model.AuditLog;
+import bd.edu.just.backend.repository.AuditLogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class AuditLogService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    public Page<AuditLogDTO> getAuditLogs(String entityType, Long entityId, String username, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        return auditLogRepository.search(blankToNull(entityType), entityId, blankToNull(username), pageRequest)
+                .map(this::convertToDTO);
+    }
+
+    private AuditLogDTO convertToDTO(AuditLog auditLog) {
+        AuditLogDTO dto = new AuditLogDTO();
+        dto.setId(auditLog.getId());
+        dto.setEntityType(auditLog.getEntityType());
+        dto.setEntityId(auditLog.getEntityId());
+        dto.setAction(auditLog.getAction());
+        dto.setUsername(auditLog.getUsername());
+        dto.setChanges(auditLog.getChanges());
+        dto.setCreatedAt(auditLog.getCreatedAt());
+        return dto;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
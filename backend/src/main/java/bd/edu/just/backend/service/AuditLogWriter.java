@@ -0,0 +1,120 @@
+package bd.edu.just.backend.service;
+
+import bd.edu.just.backend.model.AuditLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffers audit entries in a bounded queue and inserts them in JDBC batches from a single
+ * background thread, so recording an entry never waits on the database.
+ *
+ * When the queue is full new entries are dropped (and counted) rather than blocking the
+ * write path that produced them.
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final long POLL_INTERVAL_MS = 500;
+    private static final int MAX_CHANGES_LENGTH = 4000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (entity_type, entity_id, action, username, changes, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<AuditLog> queue;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          @Value("${app.audit.queue-capacity:10000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        // The worker drains whatever is left before exiting
+        worker.join(10_000);
+    }
+
+    public void record(AuditLog entry) {
+        if (!queue.offer(entry)) {
+            long total = dropped.incrementAndGet();
+            if (total == 1 || total % 1000 == 0) {
+                logger.warn("Audit queue full, {} entries dropped so far", total);
+            }
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void run() {
+        List<AuditLog> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLog first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Exception e) {
+                logger.error("Failed to write {} audit entries", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditLog> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+            ps.setString(1, entry.getEntityType());
+            if (entry.getEntityId() != null) {
+                ps.setLong(2, entry.getEntityId());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setString(3, entry.getAction());
+            ps.setString(4, entry.getUsername());
+            String changes = entry.getChanges();
+            ps.setString(5, changes != null && changes.length() > MAX_CHANGES_LENGTH
+                    ? changes.substring(0, MAX_CHANGES_LENGTH) : changes);
+            ps.setTimestamp(6, Timestamp.valueOf(entry.getCreatedAt()));
+        });
+    }
+}
@@ -0,0 +1,237 @@
+package bd.edu.just.backend.service;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.Barcode128;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.ColumnText;
+import com.lowagie.text.pdf.PdfContentByte;
+import com.lowagie.text.pdf.PdfWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Renders printable Code128 label sheets (A4, 3 x 8 labels) for item instances. Retired
+ * instances (removed from a purchase or retired with it) get no label.
+ *
+ * Instances are read in keyset-paged chunks and each page is written to the output as soon
+ * as it is full, so memory use does not grow with the number of labels.
+ */
+@Service
+public class BarcodeLabelService {
+
+    public static final int MAX_LABELS_PER_REQUEST = 20000;
+
+    private static final int PAGE_FETCH_SIZE = 480;
+    private static final int COLUMNS = 3;
+    private static final int ROWS = 8;
+    private static final float MARGIN = 20f;
+    private static final float PADDING = 6f;
+    private static final float NAME_FONT_SIZE = 8f;
+
+    private static final String PURCHASE_PAGE_SQL =
+            "SELECT ii.id, ii.barcode, i.name FROM item_instances ii JOIN items i ON i.id = ii.item_id " +
+            "WHERE ii.purchase_id = ? AND ii.status <> 'RETIRED' AND ii.id > ? ORDER BY ii.id LIMIT ?";
+
+    private static final String RANGE_COUNT_SQL =
+            "SELECT COUNT(*) FROM item_instances ii WHERE ii.barcode BETWEEN :from AND :to AND ii.status <> 'RETIRED'";
+
+    private static final String RANGE_FIRST_PAGE_SQL =
+            "SELECT ii.id, ii.barcode, i.name FROM item_instances ii JOIN items i ON i.id = ii.item_id " +
+            "WHERE ii.barcode >= :from AND ii.barcode <= :to AND ii.status <> 'RETIRED'";
+
+    private static final String RANGE_NEXT_PAGE_SQL =
+            "SELECT ii.id, ii.barcode, i.name FROM item_instances ii JOIN items i ON i.id = ii.item_id " +
+            "WHERE ii.barcode > :from AND ii.barcode <= :to AND ii.status <> 'RETIRED'";
+
+    private static final String RANGE_PAGE_ORDER = " ORDER BY ii.barcode LIMIT :limit";
+
+    // Instances of purchases made by someone designated in one of the offices, as for purchase lists
+    private static final String IN_OFFICES_FILTER =
+            " AND EXISTS (SELECT 1 FROM purchases p JOIN designations d ON d.user_id = p.purchased_by " +
+            "WHERE p.id = ii.purchase_id AND d.is_active = TRUE AND d.office_id IN (:officeIds))";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public long countPurchaseLabels(Long purchaseId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM item_instances WHERE purchase_id = ? AND status <> 'RETIRED'",
+                Long.class, purchaseId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Instances with a barcode in the range whose purchase is within {@code scope}.
+     */
+    public long countRangeLabels(String fromBarcode, String toBarcode, OfficeScope scope) {
+        if (fromBarcode.compareTo(toBarcode) > 0) {
+            throw new IllegalArgumentException("Start barcode must not be after end barcode");
+        }
+        if (scope.isEmpty()) {
+            return 0;
+        }
+        Long count = namedJdbcTemplate.queryForObject(RANGE_COUNT_SQL + scopeFilter(scope),
+                rangeParams(fromBarcode, toBarcode, scope), Long.class);
+        return count != null ? count : 0;
+    }
+
+    public void writePurchaseLabels(Long purchaseId, OutputStream out) throws IOException {
+        try (LabelSheet sheet = new LabelSheet(out)) {
+            long lastId = 0;
+            List<Label> page;
+            do {
+                page = jdbcTemplate.query(PURCHASE_PAGE_SQL, (rs, rowNum) ->
+                        new Label(rs.getLong("id"), rs.getString("barcode"), rs.getString("name")),
+                        purchaseId, lastId, PAGE_FETCH_SIZE);
+                for (Label label : page) {
+                    sheet.add(label);
+                    lastId = label.id();
+                }
+            } while (page.size() == PAGE_FETCH_SIZE);
+        }
+    }
+
+    public void writeRangeLabels(String fromBarcode, String toBarcode, OfficeScope scope, OutputStream out)
+            throws IOException {
+        try (LabelSheet sheet = new LabelSheet(out)) {
+            if (scope.isEmpty()) {
+                return;
+            }
+            String sql = RANGE_FIRST_PAGE_SQL;
+            String lastBarcode = fromBarcode;
+            List<Label> page;
+            do {
+                MapSqlParameterSource params = rangeParams(lastBarcode, toBarcode, scope)
+                        .addValue("limit", PAGE_FETCH_SIZE);
+                page = namedJdbcTemplate.query(sql + scopeFilter(scope) + RANGE_PAGE_ORDER, params, (rs, rowNum) ->
+                        new Label(rs.getLong("id"), rs.getString("barcode"), rs.getString("name")));
+                for (Label label : page) {
+                    sheet.add(label);
+                    lastBarcode = label.barcode();
+                }
+                sql = RANGE_NEXT_PAGE_SQL;
+            } while (page.size() == PAGE_FETCH_SIZE);
+        }
+    }
+
+    private static String scopeFilter(OfficeScope scope) {
+        return scope.isUnrestricted() ? "" : IN_OFFICES_FILTER;
+    }
+
+    private static MapSqlParameterSource rangeParams(String fromBarcode, String toBarcode, OfficeScope scope) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", fromBarcode)
+                .addValue("to", toBarcode);
+        if (!scope.isUnrestricted()) {
+            params.addValue("officeIds", scope.getOfficeIds());
+        }
+        return params;
+    }
+
+    private record Label(long id, String barcode, String name) {}
+
+    /**
+     * An open PDF document that places labels left to right, top to bottom, starting a new
+     * page when the current one is full.
+     */
+    private static class LabelSheet implements AutoCloseable {
+
+        private final Document document = new Document(PageSize.A4, MARGIN, MARGIN, MARGIN, MARGIN);
+        private final PdfWriter writer;
+        private final BaseFont font;
+        private final float labelWidth;
+        private final float labelHeight;
+        private int slot;
+
+        LabelSheet(OutputStream out) throws IOException {
+            try {
+                writer = PdfWriter.getInstance(document, out);
+                // The response stream belongs to the servlet container
+                writer.setCloseStream(false);
+                font = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+            } catch (DocumentException e) {
+                throw new IOException("Failed to start label document", e);
+            }
+            document.open();
+            Rectangle page = document.getPageSize();
+            labelWidth = (page.getWidth() - 2 * MARGIN) / COLUMNS;
+            labelHeight = (page.getHeight() - 2 * MARGIN) / ROWS;
+        }
+
+        void add(Label label) {
+            if (slot == COLUMNS * ROWS) {
+                document.newPage();
+                slot = 0;
+            }
+            float left = MARGIN + (slot % COLUMNS) * labelWidth;
+            float top = document.getPageSize().getHeight() - MARGIN - (slot / COLUMNS) * labelHeight;
+            float innerWidth = labelWidth - 2 * PADDING;
+
+            PdfContentByte cb = writer.getDirectContent();
+
+            String name = fitToWidth(label.name(), innerWidth);
+            ColumnText.showTextAligned(cb, Element.ALIGN_CENTER,
+                    new Phrase(name, new Font(font, NAME_FONT_SIZE)),
+                    left + labelWidth / 2, top - PADDING - NAME_FONT_SIZE, 0);
+
+            Barcode128 code = new Barcode128();
+            code.setCode(label.barcode());
+            code.setBarHeight(labelHeight - 3 * PADDING - NAME_FONT_SIZE - 12f);
+            code.setX(0.9f);
+            code.setSize(7f);
+            float codeWidth = code.getBarcodeSize().getWidth();
+
+            // Drawn straight into the page content: a template per label would be kept by the
+            // writer until the document is closed. Long codes are scaled down to fit the label width.
+            float scale = Math.min(1f, innerWidth / codeWidth);
+            float x = left + (labelWidth - codeWidth * scale) / 2;
+            float y = top - labelHeight + PADDING;
+            cb.saveState();
+            cb.concatCTM(scale, 0, 0, 1, x, y);
+            code.placeBarcode(cb, null, null);
+            cb.restoreState();
+
+            slot++;
+        }
+
+        private String fitToWidth(String text, float width) {
+            if (text == null) {
+                return "";
+            }
+            if (font.getWidthPoint(text, NAME_FONT_SIZE) <= width) {
+                return text;
+            }
+            String ellipsis = "...";
+            int end = text.length();
+            while (end > 0 && font.getWidthPoint(text.substring(0, end) + ellipsis, NAME_FONT_SIZE) > width) {
+                end--;
+            }
+            return text.substring(0, end) + ellipsis;
+        }
+
+        @Override
+        public void close() {
+            if (slot == 0 && writer.getPageNumber() == 1) {
+                // An empty document cannot be closed; leave a blank page instead
+                writer.setPageEmpty(false);
+            }
+            document.close();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package bd.edu.just.backend.service;
+
+import bd.edu.just.backend.model.Item;
+import bd.edu.just.backend.model.ItemCategory;
+import bd.edu.just.backend.model.Office;
+import bd.edu.just.backend.model.Unit;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Version counters of the catalogues the frontend fetches on nearly every page (units,
+ * categories, offices, items), used as ETags so an unchanged catalogue is answered with 304
+ * before anything is queried or serialized.
+ *
+ * Counters live in the {@code catalogue_versions} table, so every instance behind the load
+ * balancer serves the same ETag. A transaction that writes a catalogue entity through Hibernate
+ * bumps its counters just before it commits, in the same transaction; JDBC writes call
+ * {@link #bump}. Bumps are collected per transaction and written once each, in a fixed order.
+ * {@link #etag} reads outside any transaction, which routes it to the primary, so a 304 is
+ * never based on a replica that has not caught up with the write.
+ */
+@Component
+public class CatalogueVersions implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    public enum Catalogue { UNITS, CATEGORIES, OFFICES, ITEMS }
+
+    // Item responses embed category and unit names, so those writes change the item catalogue too
+    private static final Map<Class<?>, Set<Catalogue>> AFFECTED_CATALOGUES = Map.of(
+            Unit.class, EnumSet.of(Catalogue.UNITS, Catalogue.ITEMS),
+            ItemCategory.class, EnumSet.of(Catalogue.CATEGORIES, Catalogue.ITEMS),
+            Office.class, EnumSet.of(Catalogue.OFFICES),
+            Item.class, EnumSet.of(Catalogue.ITEMS));
+
+    private static final String BUMP_SQL =
+            "INSERT INTO catalogue_versions (catalogue, version) VALUES (?, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1";
+    private static final String VERSION_SQL = "SELECT version FROM catalogue_versions WHERE catalogue = ?";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    // Catalogues changed by each open session's transaction, written just before it commits
+    private final Map<SessionImplementor, Set<Catalogue>> pendingBumps = new ConcurrentHashMap<>();
+
+    public CatalogueVersions(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    /**
+     * Strong ETag of the catalogue's current version, e.g. {@code "units-17"}. Must not be
+     * called inside a read-only transaction, which would read the version from the replica.
+     */
+    public String etag(Catalogue catalogue) {
+        List<Long> version = jdbcTemplate.queryForList(VERSION_SQL, Long.class, catalogue.name());
+        return "\"" + catalogue.name().toLowerCase() + "-" + (version.isEmpty() ? 0 : version.get(0)) + "\"";
+    }
+
+    /**
+     * Bumps the catalogue as part of the current transaction, for writes that bypass the
+     * Hibernate events. Bumps immediately when no transaction is active.
+     */
+    public void bump(Catalogue catalogue) {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager == null) {
+            jdbcTemplate.update(BUMP_SQL, catalogue.name());
+            return;
+        }
+        pendingFor(entityManager.unwrap(SessionImplementor.class)).add(catalogue);
+    }
+
+    private Set<Catalogue> pendingFor(SessionImplementor session) {
+        Set<Catalogue> pending = pendingBumps.get(session);
+        if (pending == null) {
+            pending = EnumSet.noneOf(Catalogue.class);
+            pendingBumps.put(session, pending);
+            // Runs after the commit-time flush, so writes flushed during commit are included
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) this::writePending);
+            session.getActionQueue().registerProcess(
+                    (AfterTransactionCompletionProcess) (success, completed) -> pendingBumps.remove(session));
+        }
+        return pending;
+    }
+
+    private void writePending(SessionImplementor session) {
+        Set<Catalogue> pending = pendingBumps.get(session);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(BUMP_SQL)) {
+                for (Catalogue catalogue : pending) {
+                    statement.setString(1, catalogue.name());
+                    statement.executeUpdate();
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        bumpFor(event.getSession(), event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        bumpFor(event.getSession(), event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        bumpFor(event.getSession(), event.getPersister());
+    }
+
+    private void bumpFor(EventSource session, EntityPersister persister) {
+        Set<Catalogue> affected = AFFECTED_CATALOGUES.get(persister.getMappedClass());
+        if (affected != null) {
+            pendingFor(session).addAll(affected);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package bd.edu.just.backend.service;
 
 import bd.edu.just.backend.model.User;
-import bd.edu.just.backend.model.Designation;
 import bd.edu.just.backend.repository.UserRepository;
 
 import org.springframework.security.core.GrantedAuthority;
@@ -9,7 +8,6 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -17,11 +15,11 @@ import java.util.stream.Collectors;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
-    private final DesignationService designationService;
+    private final UserCapabilitiesService userCapabilitiesService;
 
-    public CustomUserDetailsService(UserRepository userRepository, DesignationService designationService){
+    public CustomUserDetailsService(UserRepository userRepository, UserCapabilitiesService userCapabilitiesService){
         this.userRepository = userRepository;
-        this.designationService = designationService;
+        this.userCapabilitiesService = userCapabilitiesService;
     }
 
     @Override
@@ -29,10 +27,9 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
-        // Get roles from active designations
-        List<Designation> designations = designationService.getActiveDesignationsByUser(user);
-        Set<GrantedAuthority> authorities = designations.stream()
-            .map(designation -> new SimpleGrantedAuthority(designation.getRole().getName()))
+        // Roles of the active designations, from the cached capabilities snapshot
+        Set<GrantedAuthority> authorities = userCapabilitiesService.forUser(user).getRoles().stream()
+            .map(SimpleGrantedAuthority::new)
             .collect(Collectors.toSet());
 
         return new org.springframework.security.core.userdetails.User(
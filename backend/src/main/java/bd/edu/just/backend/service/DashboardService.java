@@ -5,11 +5,13 @@ import bd.edu.just.backend.model.DistributionStatus;
 import bd.edu.just.backend.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @Service
+@Transactional(readOnly = true)
 public class DashboardService {
 
     @Autowired
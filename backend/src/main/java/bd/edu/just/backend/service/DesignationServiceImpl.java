@@ -19,10 +19,12 @@ import java.util.NoSuchElementException;
 public class DesignationServiceImpl implements DesignationService {
 
     private final DesignationRepository designationRepository;
+    private final UserCapabilitiesService userCapabilitiesService;
 
     @Autowired
-    public DesignationServiceImpl(DesignationRepository designationRepository) {
+    public DesignationServiceImpl(DesignationRepository designationRepository, UserCapabilitiesService userCapabilitiesService) {
         this.designationRepository = designationRepository;
+        this.userCapabilitiesService = userCapabilitiesService;
     }
 
     @Override
@@ -39,35 +41,42 @@ public class DesignationServiceImpl implements DesignationService {
             userDesignations.forEach(d -> d.setIsPrimary(false));
         }
 
+        userCapabilitiesService.invalidateAll();
         return designationRepository.save(designation);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Designation> getAllDesignations() {
         return designationRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Designation> getDesignationById(Long id) {
         return designationRepository.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Designation> getDesignationsByUser(User user) {
         return designationRepository.findByUserAndIsActive(user, true);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Designation> getDesignationsByOffice(Office office) {
         return designationRepository.findByOfficeAndIsActive(office, true);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Designation> getDesignationsByRole(Role role) {
         return designationRepository.findByRoleAndIsActive(role, true);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Designation> getActiveDesignationsByUser(User user) {
         return designationRepository.findActiveDesignationsByUser(user);
     }
@@ -88,6 +97,7 @@ public class DesignationServiceImpl implements DesignationService {
         designation.setIsPrimary(designationDetails.getIsPrimary());
         designation.setIsActive(designationDetails.getIsActive());
 
+        userCapabilitiesService.invalidateAll();
         return designationRepository.save(designation);
     }
 
@@ -97,21 +107,23 @@ public class DesignationServiceImpl implements DesignationService {
                 .orElseThrow(() -> new NoSuchElementException("Designation not found"));
         designation.setIsActive(false);
         designationRepository.save(designation);
+        userCapabilitiesService.invalidateAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean hasUserPurchasingPower(User user) {
-        List<Designation> userDesignations = designationRepository.findActiveDesignationsByUser(user);
-        return userDesignations.stream()
-                .anyMatch(d -> d.getRole().getPurchasingPower());
+        return userCapabilitiesService.forUser(user).hasPurchasingPower();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> getUsersWithPurchasingPower() {
         return designationRepository.findUsersWithPurchasingPower();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Designation> getPrimaryDesignation(User user) {
         List<Designation> primaryDesignations = designationRepository.findByUserAndIsActiveAndIsPrimary(user, true, true);
         return primaryDesignations.stream().findFirst();
@@ -0,0 +1,89 @@
+package bd.edu.just.backend.service;
+
+import bd.edu.just.backend.model.ItemDistribution;
+import bd.edu.just.backend.model.ItemInstance;
+import bd.edu.just.backend.repository.ItemInstanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Ties quantity-based distributions to the barcoded {@link ItemInstance}s they hand out. On
+ * approval the item's in-stock instances are claimed oldest purchase first and marked
+ * distributed to the office; when the approval is withdrawn they go back in stock. An item
+ * tracked by instances cannot be handed out beyond the instances it has in stock, so the
+ * stock count and the in-stock instances never part ways.
+ *
+ * Instances are claimed in batches of {@value #BATCH_SIZE} with {@code FOR UPDATE SKIP LOCKED},
+ * so approvals of the same item running side by side each take different instances instead of
+ * queueing on the same rows.
+ */
+@Service
+public class InstanceAllocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstanceAllocationService.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ItemInstanceRepository itemInstanceRepository;
+    private final AuditEventListener auditEventListener;
+
+    public InstanceAllocationService(ItemInstanceRepository itemInstanceRepository,
+                                     AuditEventListener auditEventListener) {
+        this.itemInstanceRepository = itemInstanceRepository;
+        this.auditEventListener = auditEventListener;
+    }
+
+    /**
+     * Allocates the distribution's quantity of in-stock instances to its office and returns how
+     * many were allocated. Items stocked without barcodes (bulk imports, stock entered before
+     * instances existed) have no instances and are distributed by quantity alone; for any other
+     * item a shortfall rejects the allocation, rolling back the caller's transaction.
+     */
+    @Transactional
+    public int allocate(ItemDistribution distribution) {
+        Long itemId = distribution.getItem().getId();
+        int wanted = distribution.getQuantity();
+        int allocated = 0;
+        while (allocated < wanted) {
+            List<Long> ids = itemInstanceRepository.lockInStockForAllocation(itemId,
+                    Math.min(BATCH_SIZE, wanted - allocated));
+            if (ids.isEmpty()) {
+                break;
+            }
+            allocated += itemInstanceRepository.markAllocated(ids, distribution.getOffice().getId(),
+                    distribution.getId());
+        }
+        if (allocated < wanted) {
+            if (itemInstanceRepository.existsByItemIdAndStatusNot(itemId, ItemInstance.ItemInstanceStatus.RETIRED)) {
+                throw new RuntimeException("Only " + allocated + " of " + wanted + " instance(s) of item #" + itemId
+                        + " are in stock");
+            }
+            logger.debug("Distribution #{} of item #{} has no barcoded instances to allocate",
+                    distribution.getId(), itemId);
+        }
+        if (allocated > 0) {
+            auditEventListener.recordNativeChange(ItemInstance.class, null, "UPDATE",
+                    "status: IN_STOCK -> DISTRIBUTED for " + allocated + " instance(s) of item #" + itemId
+                            + " (distribution #" + distribution.getId() + ")");
+        }
+        return allocated;
+    }
+
+    /**
+     * Puts the instances allocated to the distribution back in stock and returns how many there were.
+     */
+    @Transactional
+    public int release(ItemDistribution distribution) {
+        int released = itemInstanceRepository.releaseAllocated(distribution.getId());
+        if (released > 0) {
+            auditEventListener.recordNativeChange(ItemInstance.class, null, "UPDATE",
+                    "status: DISTRIBUTED -> IN_STOCK for " + released + " instance(s)"
+                            + " (distribution #" + distribution.getId() + ")");
+        }
+        return released;
+    }
+}
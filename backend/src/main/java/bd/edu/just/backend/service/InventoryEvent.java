@@ -0,0 +1,107 @@
+package bd.edu.just.backend.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * A committed inventory change pushed to the {@code /api/events} stream. Only the ids and the
+ * delta are carried; clients refetch whatever they display.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class InventoryEvent {
+
+    public enum Type { STOCK_CHANGED, DISTRIBUTION_STATUS_CHANGED, PURCHASE_CREATED, PURCHASE_DELETED }
+
+    private final Type type;
+    private final Long itemId;
+    private final Integer quantityDelta;
+    private final Long distributionId;
+    private final Long officeId;
+    private final String status;
+    private final Long purchaseId;
+    // Offices the change belongs to; null when every subscriber may see it
+    private final Set<Long> officeIds;
+    private final LocalDateTime occurredAt = LocalDateTime.now();
+
+    private InventoryEvent(Type type, Long itemId, Integer quantityDelta, Long distributionId, Long officeId,
+                           String status, Long purchaseId, Set<Long> officeIds) {
+        this.type = type;
+        this.itemId = itemId;
+        this.quantityDelta = quantityDelta;
+        this.distributionId = distributionId;
+        this.officeId = officeId;
+        this.status = status;
+        this.purchaseId = purchaseId;
+        this.officeIds = officeIds;
+    }
+
+    public static InventoryEvent stockChanged(Long itemId, int quantityDelta) {
+        return new InventoryEvent(Type.STOCK_CHANGED, itemId, quantityDelta, null, null, null, null, null);
+    }
+
+    public static InventoryEvent distributionStatusChanged(Long distributionId, Long officeId, String status) {
+        return new InventoryEvent(Type.DISTRIBUTION_STATUS_CHANGED, null, null, distributionId, officeId, status,
+                null, Set.of(officeId));
+    }
+
+    /**
+     * @param officeIds offices of the purchaser, whose members may see the purchase
+     */
+    public static InventoryEvent purchaseCreated(Long purchaseId, Set<Long> officeIds) {
+        return new InventoryEvent(Type.PURCHASE_CREATED, null, null, null, null, null, purchaseId, officeIds);
+    }
+
+    /**
+     * @param officeIds offices of the purchaser, or null to send the event to every subscriber
+     */
+    public static InventoryEvent purchaseDeleted(Long purchaseId, Set<Long> officeIds) {
+        return new InventoryEvent(Type.PURCHASE_DELETED, null, null, null, null, null, purchaseId, officeIds);
+    }
+
+    /**
+     * Whether a subscriber limited to {@code scope} may receive the event.
+     */
+    public boolean isVisibleTo(OfficeScope scope) {
+        return officeIds == null || scope.isUnrestricted() || officeIds.stream().anyMatch(scope::includes);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public Integer getQuantityDelta() {
+        return quantityDelta;
+    }
+
+    public Long getDistributionId() {
+        return distributionId;
+    }
+
+    public Long getOfficeId() {
+        return officeId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Long getPurchaseId() {
+        return purchaseId;
+    }
+
+    @JsonIgnore
+    public Set<Long> getOfficeIds() {
+        return officeIds;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
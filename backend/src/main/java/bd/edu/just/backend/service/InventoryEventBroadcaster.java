@@ -0,0 +1,176 @@
+package bd.edu.just.backend.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed {@link InventoryEvent}s out to the clients subscribed to {@code /api/events}.
+ *
+ * Publishing never blocks: each subscriber has a bounded queue that is drained by a task on the
+ * application executor, so a slow client only delays itself. A client whose queue overflows is
+ * disconnected; EventSource reconnects on its own and the client refetches what it shows.
+ */
+@Component
+public class InventoryEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryEventBroadcaster.class);
+
+    private static final int QUEUE_CAPACITY = 256;
+    // Clients reconnect after this; keeps abandoned connections from living forever
+    private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(30);
+    // Below the usual 60s proxy idle timeout; a failed heartbeat also detects dead clients
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(25);
+    private static final Object HEARTBEAT = new Object();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final TaskExecutor taskExecutor;
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InventoryEventBroadcaster(@Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                     MeterRegistry meterRegistry) {
+        this.taskExecutor = taskExecutor;
+        Gauge.builder("inventory.events.subscribers", subscribers, Set::size)
+                .description("Clients connected to the inventory event stream")
+                .register(meterRegistry);
+        long interval = HEARTBEAT_INTERVAL.toMillis();
+        heartbeat.scheduleAtFixedRate(() -> subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)),
+                interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+    }
+
+    /**
+     * Opens a stream that receives the events visible within {@code scope}.
+     */
+    public SseEmitter subscribe(OfficeScope scope) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, scope);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // Flushes the response headers so the client sees the stream open straight away
+        subscriber.offer(HEARTBEAT);
+        return emitter;
+    }
+
+    /**
+     * Publishes the event once the current transaction commits, so rolled-back changes are
+     * never announced. Publishes immediately when no transaction is active.
+     */
+    public void publishAfterCommit(InventoryEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(event);
+            }
+        });
+    }
+
+    void publish(InventoryEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (event.isVisibleTo(subscriber.scope)) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final OfficeScope scope;
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, OfficeScope scope) {
+            this.emitter = emitter;
+            this.scope = scope;
+        }
+
+        void offer(Object event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                logger.debug("Event stream subscriber fell {} events behind, disconnecting", QUEUE_CAPACITY);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                taskExecutor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Object event;
+                while (!closed && (event = queue.poll()) != null) {
+                    if (event == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        InventoryEvent inventoryEvent = (InventoryEvent) event;
+                        emitter.send(SseEmitter.event()
+                                .name(inventoryEvent.getType().name())
+                                .data(inventoryEvent, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the stream already completed
+                closed = true;
+                subscribers.remove(this);
+            } finally {
+                draining.set(false);
+            }
+            // An event offered while the flag was still set would otherwise wait for the next one
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+            emitter.complete();
+        }
+    }
+}
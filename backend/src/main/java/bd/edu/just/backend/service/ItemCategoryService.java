@@ -20,12 +20,14 @@ public class ItemCategoryService {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Transactional(readOnly = true)
     public List<ItemCategoryDTO> getAllCategories() {
         return categoryRepository.findByIsActiveTrue().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public ItemCategoryDTO getCategoryById(Long id) {
         ItemCategory category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
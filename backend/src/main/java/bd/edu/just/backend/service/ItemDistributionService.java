@@ -19,5 +19,5 @@ public interface ItemDistributionService {
 
     List<ItemDistributionDTO> getDistributionsByDateRange(LocalDateTime startDate, LocalDateTime endDate);
 
-    List<ItemDistributionDTO> getRecentDistributions();
+    List<ItemDistributionDTO> getRecentDistributions(int limit);
 }
\ No newline at end of file
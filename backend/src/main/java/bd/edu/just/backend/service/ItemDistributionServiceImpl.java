@@ -12,17 +12,23 @@ import bd.edu.just.backend.repository.ItemRepository;
 import bd.edu.just.backend.repository.OfficeRepository;
 import bd.edu.just.backend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 public class ItemDistributionServiceImpl implements ItemDistributionService {
 
+    private static final int RECENT_CAPACITY = 50;
+    private static final Duration RECENT_TTL = Duration.ofMinutes(1);
+
     @Autowired
     private ItemDistributionRepository distributionRepository;
 
@@ -36,25 +42,56 @@ public class ItemDistributionServiceImpl implements ItemDistributionService {
     private UserRepository userRepository;
 
     @Autowired
-    private OfficeInventoryService officeInventoryService;
+    private TransactionalOutbox transactionalOutbox;
+
+    @Autowired
+    private InstanceAllocationService instanceAllocationService;
+
+    @Autowired
+    private OfficeScopeService officeScopeService;
+
+    @Autowired
+    private InventoryEventBroadcaster inventoryEventBroadcaster;
+
+    // Feed for the dashboard: newest active distributions, kept current by create/update/delete
+    private final RecentActivityBuffer<ItemDistributionDTO> recentDistributions = new RecentActivityBuffer<>(
+            RECENT_CAPACITY,
+            Comparator.comparing(ItemDistributionDTO::getDateDistributed, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(ItemDistributionDTO::getId, Comparator.reverseOrder()),
+            ItemDistributionDTO::getId,
+            limit -> distributionRepository.findRecentDistributions(PageRequest.of(0, limit)).stream()
+                    .map(this::convertToDTO)
+                    .toList(),
+            RECENT_TTL);
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemDistributionDTO> getAllDistributions() {
-        return distributionRepository.findAll().stream()
+        OfficeScope scope = officeScopeService.currentScope();
+        if (scope.isEmpty()) {
+            return List.of();
+        }
+        List<ItemDistribution> distributions = scope.isUnrestricted()
+                ? distributionRepository.findAll()
+                : distributionRepository.findByOfficeIdIn(scope.getOfficeIds());
+        return distributions.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ItemDistributionDTO getDistributionById(Long id) {
         ItemDistribution distribution = distributionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Distribution not found"));
+        officeScopeService.checkAccess(distribution.getOffice().getId());
         return convertToDTO(distribution);
     }
 
     @Override
     @Transactional
     public ItemDistributionDTO createDistribution(ItemDistributionRequestDTO requestDTO) {
+        officeScopeService.checkAccess(requestDTO.getOfficeId());
         Item item = itemRepository.findById(requestDTO.getItemId())
                 .orElseThrow(() -> new RuntimeException("Item not found"));
         Office office = officeRepository.findById(requestDTO.getOfficeId())
@@ -90,7 +127,12 @@ public class ItemDistributionServiceImpl implements ItemDistributionService {
         item.setQuantity(item.getQuantity() - requestDTO.getQuantity());
         itemRepository.save(item);
 
-        return convertToDTO(savedDistribution);
+        ItemDistributionDTO created = convertToDTO(savedDistribution);
+        recentDistributions.putAfterCommit(created);
+        inventoryEventBroadcaster.publishAfterCommit(InventoryEvent.stockChanged(item.getId(), -requestDTO.getQuantity()));
+        inventoryEventBroadcaster.publishAfterCommit(InventoryEvent.distributionStatusChanged(
+                created.getId(), office.getId(), created.getStatus()));
+        return created;
     }
 
     @Override
@@ -98,9 +140,13 @@ public class ItemDistributionServiceImpl implements ItemDistributionService {
     public ItemDistributionDTO updateDistribution(Long id, ItemDistributionRequestDTO requestDTO) {
         ItemDistribution distribution = distributionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Distribution not found"));
+        officeScopeService.checkAccess(distribution.getOffice().getId());
 
         DistributionStatus oldStatus = distribution.getStatus();
         DistributionStatus newStatus = requestDTO.getStatus() != null ? requestDTO.getStatus() : distribution.getStatus();
+        Long oldItemId = distribution.getItem().getId();
+        Long oldOfficeId = distribution.getOffice().getId();
+        int oldQuantity = distribution.getQuantity();
 
         // Restore previous quantity to item
         Item item = distribution.getItem();
@@ -114,6 +160,7 @@ public class ItemDistributionServiceImpl implements ItemDistributionService {
             item = newItem;
         }
         if (requestDTO.getOfficeId() != null) {
+            officeScopeService.checkAccess(requestDTO.getOfficeId());
             Office office = officeRepository.findById(requestDTO.getOfficeId())
                     .orElseThrow(() -> new RuntimeException("Office not found"));
             distribution.setOffice(office);
@@ -159,20 +206,44 @@ public class ItemDistributionServiceImpl implements ItemDistributionService {
 
         ItemDistribution savedDistribution = distributionRepository.save(distribution);
 
-        // Handle office inventory based on status change
+        // Handle office inventory based on status change; applied after commit through the outbox
         if (oldStatus != DistributionStatus.APPROVED && newStatus == DistributionStatus.APPROVED) {
             // Status changed to APPROVED, add to office inventory
-            officeInventoryService.adjustInventory(distribution.getOffice(), item, newQuantity);
+            adjustOfficeInventory(distribution.getOffice(), item, newQuantity);
         } else if (oldStatus == DistributionStatus.APPROVED && newStatus != DistributionStatus.APPROVED) {
             // Status changed from APPROVED to something else, remove from office inventory
-            officeInventoryService.adjustInventory(distribution.getOffice(), item, -newQuantity);
+            adjustOfficeInventory(distribution.getOffice(), item, -newQuantity);
         } else if (oldStatus == DistributionStatus.APPROVED && newStatus == DistributionStatus.APPROVED && !newQuantity.equals(distribution.getQuantity())) {
             // Quantity changed while still APPROVED, adjust inventory difference
             int quantityDifference = newQuantity - distribution.getQuantity();
-            officeInventoryService.adjustInventory(distribution.getOffice(), item, quantityDifference);
+            adjustOfficeInventory(distribution.getOffice(), item, quantityDifference);
         }
 
-        return convertToDTO(savedDistribution);
+        // Keep the barcoded instances in line with the approval: released when it is rejected,
+        // cancelled or sent back to pending, kept when it is completed, and reallocated when the
+        // item, office or quantity of a distribution holding them changes
+        boolean allocationChanged = !oldItemId.equals(item.getId())
+                || !oldOfficeId.equals(savedDistribution.getOffice().getId())
+                || oldQuantity != newQuantity;
+        if (holdsInstances(oldStatus) && (!holdsInstances(newStatus) || allocationChanged)) {
+            instanceAllocationService.release(savedDistribution);
+        }
+        if (holdsInstances(newStatus) && (!holdsInstances(oldStatus) || allocationChanged)) {
+            instanceAllocationService.allocate(savedDistribution);
+        }
+
+        ItemDistributionDTO updated = convertToDTO(savedDistribution);
+        if (Boolean.TRUE.equals(updated.getIsActive())) {
+            recentDistributions.putAfterCommit(updated);
+        } else {
+            recentDistributions.removeAfterCommit(id);
+        }
+        publishStockChanges(oldItemId, oldQuantity, item.getId(), newQuantity);
+        if (oldStatus != newStatus) {
+            inventoryEventBroadcaster.publishAfterCommit(InventoryEvent.distributionStatusChanged(
+                    id, updated.getOfficeId(), updated.getStatus()));
+        }
+        return updated;
     }
 
     @Override
@@ -180,27 +251,81 @@ public class ItemDistributionServiceImpl implements ItemDistributionService {
     public void deleteDistribution(Long id) {
         ItemDistribution distribution = distributionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Distribution not found"));
+        officeScopeService.checkAccess(distribution.getOffice().getId());
 
         // Restore quantity to item
         Item item = distribution.getItem();
         item.setQuantity(item.getQuantity() + distribution.getQuantity());
         itemRepository.save(item);
 
+        if (holdsInstances(distribution.getStatus())) {
+            instanceAllocationService.release(distribution);
+        }
         distributionRepository.delete(distribution);
+        recentDistributions.removeAfterCommit(id);
+        inventoryEventBroadcaster.publishAfterCommit(InventoryEvent.stockChanged(item.getId(), distribution.getQuantity()));
+        inventoryEventBroadcaster.publishAfterCommit(InventoryEvent.distributionStatusChanged(
+                id, distribution.getOffice().getId(), "DELETED"));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemDistributionDTO> getDistributionsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return distributionRepository.findByDateRange(startDate, endDate).stream()
+        OfficeScope scope = officeScopeService.currentScope();
+        if (scope.isEmpty()) {
+            return List.of();
+        }
+        List<ItemDistribution> distributions = scope.isUnrestricted()
+                ? distributionRepository.findByDateRange(startDate, endDate)
+                : distributionRepository.findByDateRangeInOffices(startDate, endDate, scope.getOfficeIds());
+        return distributions.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * The newest {@code limit} active distributions (1 to {@value #RECENT_CAPACITY}), served
+     * from memory; the database is only read when the buffer is first used or has gone stale.
+     * Office-scoped users get a top-N query over their offices instead.
+     */
     @Override
-    public List<ItemDistributionDTO> getRecentDistributions() {
-        return distributionRepository.findRecentDistributions().stream()
+    @Transactional(readOnly = true)
+    public List<ItemDistributionDTO> getRecentDistributions(int limit) {
+        int size = Math.max(1, Math.min(limit, RECENT_CAPACITY));
+        OfficeScope scope = officeScopeService.currentScope();
+        if (scope.isUnrestricted()) {
+            return recentDistributions.newest(size);
+        }
+        if (scope.isEmpty()) {
+            return List.of();
+        }
+        return distributionRepository.findRecentDistributionsInOffices(scope.getOfficeIds(),
+                        PageRequest.of(0, size)).stream()
                 .map(this::convertToDTO)
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    // Approved distributions claim their instances; completing one keeps them handed out
+    private static boolean holdsInstances(DistributionStatus status) {
+        return status == DistributionStatus.APPROVED || status == DistributionStatus.COMPLETED;
+    }
+
+    private void adjustOfficeInventory(Office office, Item item, int quantityChange) {
+        OfficeInventoryAdjustmentHandler.Adjustment adjustment =
+                new OfficeInventoryAdjustmentHandler.Adjustment(office.getId(), item.getId(), quantityChange);
+        transactionalOutbox.append(OfficeInventoryAdjustmentHandler.EVENT_TYPE, adjustment.orderingKey(), adjustment);
+    }
+
+    // The old quantity went back to the old item and the new one came out of the new item
+    private void publishStockChanges(Long oldItemId, int oldQuantity, Long newItemId, int newQuantity) {
+        if (oldItemId.equals(newItemId)) {
+            if (oldQuantity != newQuantity) {
+                inventoryEventBroadcaster.publishAfterCommit(InventoryEvent.stockChanged(newItemId, oldQuantity - newQuantity));
+            }
+            return;
+        }
+        inventoryEventBroadcaster.publishAfterCommit(InventoryEvent.stockChanged(oldItemId, oldQuantity));
+        inventoryEventBroadcaster.publishAfterCommit(InventoryEvent.stockChanged(newItemId, -newQuantity));
     }
 
     private ItemDistributionDTO convertToDTO(ItemDistribution distribution) {
@@ -0,0 +1,317 @@
+package bd.edu.just.backend.service;
+
+import bd.edu.just.backend.dto.ItemImportErrorDTO;
+import bd.edu.just.backend.dto.ItemImportResultDTO;
+import bd.edu.just.backend.model.ItemCategory;
+import bd.edu.just.backend.model.Unit;
+import bd.edu.just.backend.repository.ItemCategoryRepository;
+import bd.edu.just.backend.repository.ItemRepository;
+import bd.edu.just.backend.repository.UnitRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk import of the item catalogue from CSV or XLSX.
+ *
+ * Rows are streamed from the upload, validated against categories, units and item codes that
+ * are preloaded once, and inserted in JDBC batches. Every batch commits on its own, so a bad
+ * row is reported back without aborting the rest of the file. A code only counts as taken once
+ * its row is committed, so a row the database rejects does not block a later row with its code.
+ */
+@Service
+public class ItemImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemImportService.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO items (name, name_bn, category_id, code, description, unit_id, quantity, is_active, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemCategoryRepository categoryRepository;
+
+    @Autowired
+    private UnitRepository unitRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CatalogueVersions catalogueVersions;
+
+    public ItemImportResultDTO importItems(InputStream in, String filename) throws IOException {
+        ImportRun run = new ImportRun();
+        TabularFileReader.read(in, filename, run::acceptRow);
+        run.flush();
+
+        if (run.columns == null) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        logger.info("Item import of {} finished: {} imported, {} failed",
+                filename, run.result.getImportedCount(), run.result.getFailedCount());
+        return run.result;
+    }
+
+    private static String key(String value) {
+        return value == null ? null : value.trim().toLowerCase();
+    }
+
+    private static String normalizeHeader(String header) {
+        return header.trim().toLowerCase().replaceAll("[\\s-]+", "_");
+    }
+
+    /**
+     * State of a single import: lookup tables, the pending batch and the accumulated result.
+     */
+    private class ImportRun {
+
+        private final ItemImportResultDTO result = new ItemImportResultDTO();
+        private final Map<String, Long> categoryIds = new HashMap<>();
+        private final Map<String, Long> unitIds = new HashMap<>();
+        private final Set<String> knownCodes = new HashSet<>();
+        private final List<ItemRow> batch = new ArrayList<>(BATCH_SIZE);
+        // Codes of the pending batch, and rows repeating one of them, tried once the batch is in
+        private final Set<String> batchCodes = new HashSet<>();
+        private final List<ItemRow> repeats = new ArrayList<>();
+        private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        private Map<String, Integer> columns;
+
+        ImportRun() {
+            for (ItemCategory category : categoryRepository.findByIsActiveTrue()) {
+                categoryIds.putIfAbsent(key(category.getCode()), category.getId());
+                categoryIds.putIfAbsent(key(category.getName()), category.getId());
+            }
+            for (Unit unit : unitRepository.findByIsActiveTrue()) {
+                unitIds.putIfAbsent(key(unit.getSymbol()), unit.getId());
+                unitIds.putIfAbsent(key(unit.getName()), unit.getId());
+            }
+            for (String code : itemRepository.findAllCodes()) {
+                knownCodes.add(key(code));
+            }
+        }
+
+        void acceptRow(long rowNumber, List<String> cells) {
+            if (columns == null) {
+                readHeader(cells);
+                return;
+            }
+            result.setTotalRows(result.getTotalRows() + 1);
+
+            String code = cell(cells, "code");
+            try {
+                ItemRow row = parseRow(rowNumber, cells, code);
+                if (batchCodes.add(key(code))) {
+                    batch.add(row);
+                } else {
+                    repeats.add(row);
+                }
+                if (batch.size() >= BATCH_SIZE) {
+                    flush();
+                }
+            } catch (IllegalArgumentException e) {
+                reportError(rowNumber, code, e.getMessage());
+            }
+        }
+
+        private void readHeader(List<String> cells) {
+            columns = new HashMap<>();
+            for (int i = 0; i < cells.size(); i++) {
+                columns.putIfAbsent(normalizeHeader(cells.get(i)), i);
+            }
+            alias("category", "category_code", "category_name");
+            alias("unit", "unit_symbol", "unit_name");
+            alias("name_bn", "name_bangla");
+            alias("quantity", "qty", "opening_stock");
+
+            for (String required : List.of("name", "code", "category")) {
+                if (!columns.containsKey(required)) {
+                    throw new IllegalArgumentException("Missing required column: " + required);
+                }
+            }
+        }
+
+        private void alias(String column, String... alternatives) {
+            for (String alternative : alternatives) {
+                if (!columns.containsKey(column) && columns.containsKey(alternative)) {
+                    columns.put(column, columns.get(alternative));
+                }
+            }
+        }
+
+        private ItemRow parseRow(long rowNumber, List<String> cells, String code) {
+            String name = cell(cells, "name");
+            if (name == null) {
+                throw new IllegalArgumentException("Name is required");
+            }
+            if (code == null) {
+                throw new IllegalArgumentException("Code is required");
+            }
+            if (knownCodes.contains(key(code))) {
+                throw new IllegalArgumentException("Item code already exists: " + code);
+            }
+
+            String category = cell(cells, "category");
+            Long categoryId = category != null ? categoryIds.get(key(category)) : null;
+            if (categoryId == null) {
+                throw new IllegalArgumentException("Category not found: " + category);
+            }
+
+            String unit = cell(cells, "unit");
+            Long unitId = null;
+            if (unit != null) {
+                unitId = unitIds.get(key(unit));
+                if (unitId == null) {
+                    throw new IllegalArgumentException("Unit not found: " + unit);
+                }
+            }
+
+            int quantity = 0;
+            String quantityValue = cell(cells, "quantity");
+            if (quantityValue != null) {
+                try {
+                    // Spreadsheets may store whole numbers as "2.0"; fractions are rejected
+                    quantity = new BigDecimal(quantityValue).intValueExact();
+                } catch (ArithmeticException | NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid quantity: " + quantityValue);
+                }
+                if (quantity < 0) {
+                    throw new IllegalArgumentException("Quantity must be 0 or greater");
+                }
+            }
+
+            return new ItemRow(rowNumber, name, cell(cells, "name_bn"), categoryId, code,
+                    cell(cells, "description"), unitId, quantity);
+        }
+
+        private String cell(List<String> cells, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= cells.size()) {
+                return null;
+            }
+            String value = cells.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        void flush() {
+            if (!batch.isEmpty()) {
+                List<ItemRow> rows = new ArrayList<>(batch);
+                batch.clear();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(rows));
+                    rows.forEach(this::imported);
+                } catch (DataAccessException batchFailure) {
+                    // Something in the batch violated a constraint; retry row by row to isolate it
+                    rows.forEach(this::insertSingle);
+                }
+            }
+            // A repeated code is only free if the row that used it first did not make it in
+            repeats.forEach(this::insertSingle);
+            repeats.clear();
+            batchCodes.clear();
+        }
+
+        private void insertSingle(ItemRow row) {
+            if (knownCodes.contains(key(row.code))) {
+                reportError(row.rowNumber, row.code, "Item code already exists: " + row.code);
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(List.of(row)));
+                imported(row);
+            } catch (DataAccessException e) {
+                reportError(row.rowNumber, row.code, e.getMostSpecificCause().getMessage());
+            }
+        }
+
+        private void imported(ItemRow row) {
+            knownCodes.add(key(row.code));
+            result.setImportedCount(result.getImportedCount() + 1);
+        }
+
+        private void insert(List<ItemRow> rows) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (PreparedStatement ps, ItemRow row) -> bind(ps, row, now));
+            catalogueVersions.bump(CatalogueVersions.Catalogue.ITEMS);
+        }
+
+        private void bind(PreparedStatement ps, ItemRow row, Timestamp now) throws SQLException {
+            ps.setString(1, row.name);
+            ps.setString(2, row.nameBn);
+            ps.setLong(3, row.categoryId);
+            ps.setString(4, row.code);
+            ps.setString(5, row.description);
+            if (row.unitId != null) {
+                ps.setLong(6, row.unitId);
+            } else {
+                ps.setNull(6, Types.BIGINT);
+            }
+            ps.setInt(7, row.quantity);
+            ps.setBoolean(8, true);
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        }
+
+        private void reportError(long rowNumber, String code, String message) {
+            result.setFailedCount(result.getFailedCount() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(new ItemImportErrorDTO(rowNumber, code, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+    }
+
+    private static class ItemRow {
+        final long rowNumber;
+        final String name;
+        final String nameBn;
+        final Long categoryId;
+        final String code;
+        final String description;
+        final Long unitId;
+        final int quantity;
+
+        ItemRow(long rowNumber, String name, String nameBn, Long categoryId, String code,
+                String description, Long unitId, int quantity) {
+            this.rowNumber = rowNumber;
+            this.name = name;
+            this.nameBn = nameBn;
+            this.categoryId = categoryId;
+            this.code = code;
+            this.description = description;
+            this.unitId = unitId;
+            this.quantity = quantity;
+        }
+    }
+}
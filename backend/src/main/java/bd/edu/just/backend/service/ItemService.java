@@ -26,18 +26,24 @@ public class ItemService {
     @Autowired
     private UnitRepository unitRepository;
 
+    @Autowired
+    private InventoryEventBroadcaster inventoryEventBroadcaster;
+
+    @Transactional(readOnly = true)
     public List<ItemDTO> getAllItems() {
         return itemRepository.findByIsActiveTrue().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public ItemDTO getItemById(Long id) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Item not found with id: " + id));
         return convertToDTO(item);
     }
 
+    @Transactional(readOnly = true)
     public ItemDTO getItemByCode(String code) {
         Item item = itemRepository.findByCode(code)
                 .orElseThrow(() -> new RuntimeException("Item not found with code: " + code));
@@ -93,7 +99,11 @@ public class ItemService {
             item.setUnit(unit);
         }
         
-        if (itemDTO.getQuantity() != null) item.setQuantity(itemDTO.getQuantity());
+        if (itemDTO.getQuantity() != null && !itemDTO.getQuantity().equals(item.getQuantity())) {
+            inventoryEventBroadcaster.publishAfterCommit(
+                    InventoryEvent.stockChanged(id, itemDTO.getQuantity() - item.getQuantity()));
+            item.setQuantity(itemDTO.getQuantity());
+        }
 
         Item updatedItem = itemRepository.save(item);
         return convertToDTO(updatedItem);
@@ -107,12 +117,14 @@ public class ItemService {
         itemRepository.save(item);
     }
 
+    @Transactional(readOnly = true)
     public List<ItemDTO> searchItems(String search) {
         return itemRepository.searchItems(search).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<ItemDTO> getLowStockItems(Integer threshold) {
         return itemRepository.findLowStockItems(threshold).stream()
                 .map(this::convertToDTO)
@@ -125,6 +137,7 @@ public class ItemService {
                 .orElseThrow(() -> new RuntimeException("Item not found"));
         item.setQuantity(item.getQuantity() + quantity);
         itemRepository.save(item);
+        inventoryEventBroadcaster.publishAfterCommit(InventoryEvent.stockChanged(itemId, quantity));
     }
 
     private ItemDTO convertToDTO(Item item) {
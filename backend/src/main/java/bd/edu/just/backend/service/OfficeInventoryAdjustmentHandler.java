@@ -0,0 +1,68 @@
+package bd.edu.just.backend.service;
+
+import bd.edu.just.backend.repository.ItemRepository;
+import bd.edu.just.backend.repository.OfficeRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Applies office inventory changes caused by distribution approvals, taken off the request
+ * path through the outbox.
+ */
+@Component
+public class OfficeInventoryAdjustmentHandler implements OutboxEventHandler<OfficeInventoryAdjustmentHandler.Adjustment> {
+
+    public static final String EVENT_TYPE = "office-inventory.adjust";
+
+    public record Adjustment(Long officeId, Long itemId, int quantityChange) {
+
+        /** Adjustments of one office and item are delivered one at a time, oldest first. */
+        public String orderingKey() {
+            return "office:" + officeId + ":item:" + itemId;
+        }
+    }
+
+    private final OfficeInventoryService officeInventoryService;
+    private final OfficeRepository officeRepository;
+    private final ItemRepository itemRepository;
+    private final OfficeScopeService officeScopeService;
+
+    public OfficeInventoryAdjustmentHandler(OfficeInventoryService officeInventoryService,
+                                            OfficeRepository officeRepository, ItemRepository itemRepository,
+                                            OfficeScopeService officeScopeService) {
+        this.officeInventoryService = officeInventoryService;
+        this.officeRepository = officeRepository;
+        this.itemRepository = itemRepository;
+        this.officeScopeService = officeScopeService;
+    }
+
+    @Override
+    public String getEventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<Adjustment> getPayloadType() {
+        return Adjustment.class;
+    }
+
+    /**
+     * Applied one by one rather than summed per office and item, because a decrease is capped
+     * at the stock present and so the order matters. The outbox orders them by append, per
+     * office and item, and holds later ones back while an earlier one is being retried. A
+     * decrease that undoes an approval is always appended after it, because a distribution is
+     * only withdrawn or changed once its approval has committed.
+     */
+    @Override
+    public void handle(List<Adjustment> adjustments) {
+        // Access was checked when the distribution was approved; delivery runs on nobody's behalf
+        officeScopeService.runUnrestricted(() -> {
+            for (Adjustment adjustment : adjustments) {
+                // adjustInventory only needs the ids, so references avoid loading the rows
+                officeInventoryService.adjustInventory(officeRepository.getReferenceById(adjustment.officeId()),
+                        itemRepository.getReferenceById(adjustment.itemId()), adjustment.quantityChange());
+            }
+        });
+    }
+}
@@ -4,7 +4,10 @@ import bd.edu.just.backend.model.Item;
 import bd.edu.just.backend.model.Office;
 import bd.edu.just.backend.model.OfficeInventory;
 import bd.edu.just.backend.repository.OfficeInventoryRepository;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -16,55 +19,91 @@ import java.util.Optional;
 public class OfficeInventoryServiceImpl implements OfficeInventoryService {
 
     private final OfficeInventoryRepository officeInventoryRepository;
+    private final MeterRegistry meterRegistry;
+    private final AuditEventListener auditEventListener;
+    private final OfficeScopeService officeScopeService;
+    private final Timer adjustTimer;
 
     @Autowired
-    public OfficeInventoryServiceImpl(OfficeInventoryRepository officeInventoryRepository) {
+    public OfficeInventoryServiceImpl(OfficeInventoryRepository officeInventoryRepository, MeterRegistry meterRegistry,
+                                      AuditEventListener auditEventListener, OfficeScopeService officeScopeService) {
         this.officeInventoryRepository = officeInventoryRepository;
+        this.meterRegistry = meterRegistry;
+        this.auditEventListener = auditEventListener;
+        this.officeScopeService = officeScopeService;
+        this.adjustTimer = Timer.builder("inventory.stock.adjust")
+                .description("Time to apply one office stock adjustment")
+                .register(meterRegistry);
     }
 
     @Override
     public OfficeInventory addOrUpdateInventory(Office office, Item item, Integer quantity) {
-        Optional<OfficeInventory> existingInventory = officeInventoryRepository.findByOfficeAndItem(office, item);
-
-        if (existingInventory.isPresent()) {
-            OfficeInventory inventory = existingInventory.get();
-            inventory.setQuantity(quantity);
-            return officeInventoryRepository.save(inventory);
-        } else {
-            OfficeInventory newInventory = new OfficeInventory(office, item, quantity);
-            return officeInventoryRepository.save(newInventory);
+        officeScopeService.checkAccess(office.getId());
+        int rows = officeInventoryRepository.upsertQuantity(office.getId(), item.getId(), quantity);
+        if (rows > 0) {
+            auditEventListener.recordNativeChange(OfficeInventory.class, null, rows == 1 ? "CREATE" : "UPDATE",
+                    describe(office, item) + ", quantity: " + quantity);
         }
+        return officeInventoryRepository.findByOfficeAndItem(office, item)
+                .orElseThrow(() -> new RuntimeException("Inventory not found after update"));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<OfficeInventory> getInventoryByOfficeAndItem(Office office, Item item) {
+        officeScopeService.checkAccess(office.getId());
         return officeInventoryRepository.findByOfficeAndItem(office, item);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OfficeInventory> getInventoryByOffice(Office office) {
+        officeScopeService.checkAccess(office.getId());
         return officeInventoryRepository.findByOffice(office);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OfficeInventory> getInventoryByItem(Item item) {
-        return officeInventoryRepository.findByItem(item);
+        OfficeScope scope = officeScopeService.currentScope();
+        if (scope.isEmpty()) {
+            return List.of();
+        }
+        return scope.isUnrestricted()
+                ? officeInventoryRepository.findByItem(item)
+                : officeInventoryRepository.findByItemAndOfficeIdIn(item, scope.getOfficeIds());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OfficeInventory> getAvailableItemsByOffice(Office office) {
+        officeScopeService.checkAccess(office.getId());
         return officeInventoryRepository.findAvailableItemsByOffice(office);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Long getTotalQuantityByItem(Item item) {
-        Long total = officeInventoryRepository.getTotalQuantityByItem(item);
+        OfficeScope scope = officeScopeService.currentScope();
+        if (scope.isEmpty()) {
+            return 0L;
+        }
+        Long total = scope.isUnrestricted()
+                ? officeInventoryRepository.getTotalQuantityByItem(item)
+                : officeInventoryRepository.getTotalQuantityByItemInOffices(item, scope.getOfficeIds());
         return total != null ? total : 0L;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OfficeInventory> getAllInventoryWithStock() {
-        return officeInventoryRepository.findAllWithStock();
+        OfficeScope scope = officeScopeService.currentScope();
+        if (scope.isEmpty()) {
+            return List.of();
+        }
+        return scope.isUnrestricted()
+                ? officeInventoryRepository.findAllWithStock()
+                : officeInventoryRepository.findAllWithStockInOffices(scope.getOfficeIds());
     }
 
     @Override
@@ -82,29 +121,73 @@ public class OfficeInventoryServiceImpl implements OfficeInventoryService {
 
     @Override
     public void adjustInventory(Office office, Item item, Integer quantityChange) {
-        Optional<OfficeInventory> existingInventory = officeInventoryRepository.findByOfficeAndItem(office, item);
-
-        if (existingInventory.isPresent()) {
-            OfficeInventory inventory = existingInventory.get();
-            int newQuantity = inventory.getQuantity() + quantityChange;
+        officeScopeService.checkAccess(office.getId());
+        adjustTimer.record(() -> {
+            String result = applyAdjustment(office, item, quantityChange);
+            countAdjustment(quantityChange, result);
+        });
+    }
 
-            if (newQuantity <= 0) {
+    /**
+     * Applies the change with a single upsert (increase) or a conditional delete/update
+     * (decrease), relying on the unique (office_id, item_id) key instead of reading the row
+     * first, and returns what happened to the inventory row: created, updated, removed or ignored.
+     */
+    private String applyAdjustment(Office office, Item item, Integer quantityChange) {
+        String result;
+        if (quantityChange > 0) {
+            int rows = officeInventoryRepository.upsertAddQuantity(office.getId(), item.getId(), quantityChange);
+            result = rows == 1 ? "created" : "updated";
+        } else if (quantityChange < 0) {
+            int removed = -quantityChange;
+            if (officeInventoryRepository.deleteIfDepleted(office.getId(), item.getId(), removed) > 0) {
                 // Remove inventory entry if quantity becomes zero or negative
-                officeInventoryRepository.delete(inventory);
+                result = "removed";
+            } else if (officeInventoryRepository.decrementQuantity(office.getId(), item.getId(), removed) > 0) {
+                result = "updated";
             } else {
-                inventory.setQuantity(newQuantity);
-                officeInventoryRepository.save(inventory);
+                // Subtracting from non-existent inventory does nothing
+                result = "ignored";
             }
-        } else if (quantityChange > 0) {
-            // Create new inventory entry only if adding positive quantity
-            OfficeInventory newInventory = new OfficeInventory(office, item, quantityChange);
-            officeInventoryRepository.save(newInventory);
+        } else {
+            result = "ignored";
+        }
+
+        if (!"ignored".equals(result)) {
+            String action = switch (result) {
+                case "created" -> "CREATE";
+                case "removed" -> "DELETE";
+                default -> "UPDATE";
+            };
+            auditEventListener.recordNativeChange(OfficeInventory.class, null, action,
+                    describe(office, item) + ", quantity: " + (quantityChange > 0 ? "+" : "") + quantityChange);
         }
-        // If trying to subtract from non-existent inventory, do nothing
+        return result;
+    }
+
+    private static String describe(Office office, Item item) {
+        return "office: #" + office.getId() + ", item: #" + item.getId();
+    }
+
+    private void countAdjustment(int quantityChange, String result) {
+        String direction = quantityChange >= 0 ? "increase" : "decrease";
+        Counter.builder("inventory.stock.adjustments")
+                .description("Office stock adjustments")
+                .tag("direction", direction)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+        Counter.builder("inventory.stock.adjusted.quantity")
+                .description("Units added to or removed from office stock")
+                .tag("direction", direction)
+                .register(meterRegistry)
+                .increment(Math.abs(quantityChange));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean hasSufficientStock(Office office, Item item, Integer requiredQuantity) {
+        officeScopeService.checkAccess(office.getId());
         Optional<OfficeInventory> inventory = officeInventoryRepository.findByOfficeAndItem(office, item);
         return inventory.isPresent() && inventory.get().getQuantity() >= requiredQuantity;
     }
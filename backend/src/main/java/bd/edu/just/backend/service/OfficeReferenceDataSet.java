@@ -0,0 +1,123 @@
+package bd.edu.just.backend.service;
+
+import bd.edu.just.backend.model.Office;
+import bd.edu.just.backend.model.OfficeType;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Office hierarchy seeded from {@code csv/office.csv}.
+ *
+ * Offices are matched on {@code code}. The CSV {@code id}/{@code parent_id} columns are only
+ * used to resolve parents within the file; they are never assumed to equal database ids.
+ */
+@Component
+@Order(1)
+public class OfficeReferenceDataSet implements ReferenceDataSet {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO offices (name, name_bn, type, code, description, order_index, is_active, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE name = VALUES(name), name_bn = VALUES(name_bn), type = VALUES(type), " +
+            "description = VALUES(description), order_index = VALUES(order_index), is_active = VALUES(is_active), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String UPDATE_PARENT_SQL = "UPDATE offices SET parent_id = ? WHERE code = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReferenceCacheEvictor referenceCacheEvictor;
+    private final CatalogueVersions catalogueVersions;
+
+    public OfficeReferenceDataSet(JdbcTemplate jdbcTemplate, ReferenceCacheEvictor referenceCacheEvictor,
+                                  CatalogueVersions catalogueVersions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.referenceCacheEvictor = referenceCacheEvictor;
+        this.catalogueVersions = catalogueVersions;
+    }
+
+    @Override
+    public String getName() {
+        return "offices";
+    }
+
+    @Override
+    public String getResource() {
+        return "/csv/office.csv";
+    }
+
+    @Override
+    public String getKey(Map<String, String> row) {
+        return row.get("code");
+    }
+
+    @Override
+    public void upsert(List<Map<String, String>> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            String orderIndex = row.getOrDefault("order", "");
+            ps.setString(1, row.get("name"));
+            ps.setString(2, emptyToNull(row.get("name_bn")));
+            ps.setString(3, OfficeType.valueOf(row.get("type").toUpperCase()).name());
+            ps.setString(4, row.get("code"));
+            ps.setString(5, emptyToNull(row.get("description")));
+            if (orderIndex.isEmpty()) {
+                ps.setNull(6, Types.INTEGER);
+            } else {
+                ps.setInt(6, Integer.parseInt(orderIndex));
+            }
+            ps.setBoolean(7, Boolean.parseBoolean(row.get("is_active")));
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    @Override
+    public void afterUpsert(List<Map<String, String>> allRows, List<Map<String, String>> changedRows) {
+        // Resolve parents in memory: CSV id -> office code -> database id
+        Map<String, String> codesByCsvId = new HashMap<>();
+        for (Map<String, String> row : allRows) {
+            codesByCsvId.put(row.get("id"), row.get("code"));
+        }
+
+        Map<String, Long> idsByCode = new HashMap<>();
+        jdbcTemplate.query("SELECT id, code FROM offices WHERE code IS NOT NULL",
+                (RowCallbackHandler) rs -> idsByCode.put(rs.getString("code"), rs.getLong("id")));
+
+        // Children of a changed office are relinked too, in case the parent's code changed
+        Set<String> changedCsvIds = new HashSet<>();
+        for (Map<String, String> row : changedRows) {
+            changedCsvIds.add(row.get("id"));
+        }
+
+        List<Object[]> parentUpdates = new ArrayList<>();
+        for (Map<String, String> row : allRows) {
+            String parentCsvId = row.getOrDefault("parent_id", "");
+            if (!changedCsvIds.contains(row.get("id")) && !changedCsvIds.contains(parentCsvId)) {
+                continue;
+            }
+            Long parentId = parentCsvId.isEmpty() ? null : idsByCode.get(codesByCsvId.get(parentCsvId));
+            parentUpdates.add(new Object[]{parentId, row.get("code")});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_PARENT_SQL, parentUpdates, new int[]{Types.BIGINT, Types.VARCHAR});
+
+        // The JDBC writes above bypass the second-level cache and the Hibernate events
+        referenceCacheEvictor.evict(Office.class);
+        catalogueVersions.bump(CatalogueVersions.Catalogue.OFFICES);
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
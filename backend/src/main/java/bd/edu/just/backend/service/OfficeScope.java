@@ -0,0 +1,56 @@
+package bd.edu.just.backend.service;
+
+import java.util.Set;
+
+/**
+ * The offices whose data a user may see: every office for administrators, otherwise the
+ * offices of the user's active designations together with all of their sub-offices.
+ */
+public final class OfficeScope {
+
+    private static final OfficeScope UNRESTRICTED = new OfficeScope(true, Set.of());
+    private static final OfficeScope NONE = new OfficeScope(false, Set.of());
+
+    private final boolean unrestricted;
+    private final Set<Long> officeIds;
+
+    private OfficeScope(boolean unrestricted, Set<Long> officeIds) {
+        this.unrestricted = unrestricted;
+        this.officeIds = officeIds;
+    }
+
+    public static OfficeScope unrestricted() {
+        return UNRESTRICTED;
+    }
+
+    public static OfficeScope none() {
+        return NONE;
+    }
+
+    public static OfficeScope of(Set<Long> officeIds) {
+        return officeIds.isEmpty() ? NONE : new OfficeScope(false, Set.copyOf(officeIds));
+    }
+
+    public boolean isUnrestricted() {
+        return unrestricted;
+    }
+
+    /**
+     * True when the scope contains no office at all; queries should not be run with an
+     * empty {@code IN} list.
+     */
+    public boolean isEmpty() {
+        return !unrestricted && officeIds.isEmpty();
+    }
+
+    /**
+     * The office ids to filter by; meaningless for an unrestricted scope.
+     */
+    public Set<Long> getOfficeIds() {
+        return officeIds;
+    }
+
+    public boolean includes(Long officeId) {
+        return unrestricted || (officeId != null && officeIds.contains(officeId));
+    }
+}
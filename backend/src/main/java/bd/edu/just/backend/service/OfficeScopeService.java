@@ -0,0 +1,67 @@
+package bd.edu.just.backend.service;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves the {@link OfficeScope} of the current user so services can filter office-owned
+ * data (distributions, office inventory, purchases) in the database instead of returning
+ * everything and leaving the filtering to the frontend.
+ *
+ * The scope comes from the user's cached {@link UserCapabilities}. Callers without an
+ * authenticated user see nothing; work done on nobody's behalf (outbox handlers, background
+ * jobs) asks for an unrestricted scope explicitly through {@link #runUnrestricted}.
+ */
+@Service
+public class OfficeScopeService {
+
+    private static final ThreadLocal<Boolean> unrestrictedCaller = new ThreadLocal<>();
+
+    private final UserCapabilitiesService userCapabilitiesService;
+
+    public OfficeScopeService(UserCapabilitiesService userCapabilitiesService) {
+        this.userCapabilitiesService = userCapabilitiesService;
+    }
+
+    public OfficeScope currentScope() {
+        if (Boolean.TRUE.equals(unrestrictedCaller.get())) {
+            return OfficeScope.unrestricted();
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return OfficeScope.none();
+        }
+        return userCapabilitiesService.forUsername(authentication.getName()).getOfficeScope();
+    }
+
+    /**
+     * Runs system work with an unrestricted scope on the current thread, whoever (if anyone)
+     * is authenticated.
+     */
+    public void runUnrestricted(Runnable work) {
+        Boolean previous = unrestrictedCaller.get();
+        unrestrictedCaller.set(Boolean.TRUE);
+        try {
+            work.run();
+        } finally {
+            if (previous == null) {
+                unrestrictedCaller.remove();
+            } else {
+                unrestrictedCaller.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Throws {@link AccessDeniedException} unless the current user may act on the office.
+     */
+    public void checkAccess(Long officeId) {
+        if (!currentScope().includes(officeId)) {
+            throw new AccessDeniedException("No access to office #" + officeId);
+        }
+    }
+}
@@ -4,7 +4,7 @@ import bd.edu.just.backend.model.OfficeType;
 import bd.edu.just.backend.dto.OfficeResponseDTO;
 import bd.edu.just.backend.repository.OfficeRepository;
 
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -18,10 +18,12 @@ import java.util.NoSuchElementException;
 public class OfficeServiceImpl implements OfficeService {
 
     private final OfficeRepository officeRepository;
+    private final UserCapabilitiesService userCapabilitiesService;
 
     @Autowired
-    public OfficeServiceImpl(OfficeRepository officeRepository) {
+    public OfficeServiceImpl(OfficeRepository officeRepository, UserCapabilitiesService userCapabilitiesService) {
         this.officeRepository = officeRepository;
+        this.userCapabilitiesService = userCapabilitiesService;
     }
 
     @Override
@@ -31,15 +33,18 @@ public class OfficeServiceImpl implements OfficeService {
                 .orElseThrow(() -> new RuntimeException("Parent office not found"));
             office.setParentOffice(parent);
         }
+        userCapabilitiesService.invalidateAll();
         return officeRepository.save(office);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Office> getAllOffices() {
         return officeRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OfficeResponseDTO> getAllOfficesDto() {
         List<Office> offices = officeRepository.findAll();
         return offices.stream()
@@ -75,6 +80,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Office> getAllParentOffices() {
         return officeRepository.findAll().stream()
             .filter(office -> office.getParentOffice() == null)
@@ -82,6 +88,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Office> getAllFacultyOffices() {
         return officeRepository.findAll().stream()
             .filter(office -> office.getType() == OfficeType.FACULTY)
@@ -89,6 +96,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Office> getAllDepartmentOffices() {
         return officeRepository.findAll().stream()
             .filter(office -> office.getType() == OfficeType.DEPARTMENT)
@@ -96,6 +104,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Office> getOfficeById(Long id) {
         return officeRepository.findById(id);
     }
@@ -117,6 +126,7 @@ public class OfficeServiceImpl implements OfficeService {
             } else if (updatedOffice.getParentOffice() != null) {
                 office.setParentOffice(updatedOffice.getParentOffice());
             }
+            userCapabilitiesService.invalidateAll();
             return officeRepository.save(office);
         }).orElseThrow(() -> new RuntimeException("Office not found"));
     }
@@ -127,5 +137,6 @@ public class OfficeServiceImpl implements OfficeService {
             throw new NoSuchElementException("Office not found with id: " + id);
         }
         officeRepository.deleteById(id);
+        userCapabilitiesService.invalidateAll();
     }
 }
\ No newline at end of file
@@ -0,0 +1,303 @@
+package bd.edu.just.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers {@link TransactionalOutbox} events to their {@link OutboxEventHandler} from a
+ * single background thread, woken after each commit that appended events and otherwise
+ * polling once a second.
+ *
+ * Events are claimed in batches with {@code FOR UPDATE SKIP LOCKED} and leased for
+ * {@value #LEASE_SECONDS}s, so several instances can dispatch side by side and a batch claimed
+ * by an instance that died is picked up again. Each event type of a batch is handled in one
+ * transaction that also deletes the rows. If that fails, the events are retried one by one to
+ * isolate the failing ones, which back off exponentially. After {@value #MAX_ATTEMPTS}
+ * attempts they stay in the table with their last error.
+ *
+ * Events appended with the same ordering key are delivered one at a time, in id order. An event
+ * is not claimed while an earlier one of its key is backing off, leased by another instance or
+ * given up. Before delivering, the transaction locks the earlier events of its keys and holds
+ * back any event that still has one. A failed event therefore holds back the later events of
+ * its key until it is delivered. If it uses up its attempts, they wait until it is deleted or
+ * its attempts are reset.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long POLL_INTERVAL_MS = 1000;
+    private static final int LEASE_SECONDS = 60;
+    private static final int MAX_BACKOFF_SECONDS = 600;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String CLAIM_SQL =
+            "SELECT o.id, o.event_type, o.ordering_key, o.payload, o.attempts FROM outbox_events o " +
+            "WHERE o.available_at <= CURRENT_TIMESTAMP AND o.attempts < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_events e WHERE e.ordering_key = o.ordering_key AND e.id < o.id " +
+            "AND (e.available_at > CURRENT_TIMESTAMP OR e.attempts >= ?)) " +
+            "ORDER BY o.id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String LEASE_SQL =
+            "UPDATE outbox_events SET available_at = TIMESTAMPADD(SECOND, :seconds, CURRENT_TIMESTAMP) WHERE id IN (:ids)";
+    private static final String LOCK_SQL = "SELECT id FROM outbox_events WHERE id IN (:ids) FOR UPDATE";
+    private static final String EARLIER_SQL =
+            "SELECT id, ordering_key FROM outbox_events " +
+            "WHERE ordering_key IN (:keys) AND id < :below AND id NOT IN (:ids) FOR UPDATE";
+    private static final String RELEASE_SQL = "UPDATE outbox_events SET available_at = CURRENT_TIMESTAMP WHERE id IN (:ids)";
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id IN (:ids)";
+    private static final String FAIL_SQL =
+            "UPDATE outbox_events SET attempts = attempts + 1, last_error = ?, " +
+            "available_at = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP) WHERE id = ?";
+
+    private record OutboxRow(long id, String eventType, String orderingKey, String payload, int attempts) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, OutboxEventHandler<?>> handlers = new HashMap<>();
+    private final Semaphore wakeups = new Semaphore(0);
+    private final Counter delivered;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public OutboxDispatcher(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper, List<OutboxEventHandler<?>> handlers,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        for (OutboxEventHandler<?> handler : handlers) {
+            if (this.handlers.putIfAbsent(handler.getEventType(), handler) != null) {
+                throw new IllegalStateException("More than one outbox handler for '" + handler.getEventType() + "'");
+            }
+        }
+        this.delivered = Counter.builder("inventory.outbox.events").tag("result", "delivered")
+                .description("Outbox events handed to their handler").register(meterRegistry);
+        this.failed = Counter.builder("inventory.outbox.events").tag("result", "failed")
+                .description("Outbox event deliveries that failed and were scheduled for retry")
+                .register(meterRegistry);
+    }
+
+    // Not @PostConstruct: the CDS training run refreshes the context without a database
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "outbox-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(10_000);
+        }
+    }
+
+    /**
+     * Asks the worker to look for events now rather than at its next poll.
+     */
+    public void wake() {
+        if (wakeups.availablePermits() == 0) {
+            wakeups.release();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            int claimed;
+            try {
+                claimed = dispatchBatch();
+            } catch (RuntimeException e) {
+                logger.error("Outbox dispatch failed", e);
+                claimed = 0;
+            }
+            // A full batch suggests more are waiting, so only sleep when the backlog is drained
+            if (claimed < BATCH_SIZE) {
+                try {
+                    wakeups.tryAcquire(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    wakeups.drainPermits();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    int dispatchBatch() {
+        List<OutboxRow> batch = transactionTemplate.execute(status -> claim());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<OutboxRow>> byType = new LinkedHashMap<>();
+        for (OutboxRow row : batch) {
+            byType.computeIfAbsent(row.eventType(), type -> new ArrayList<>()).add(row);
+        }
+        byType.forEach(this::deliver);
+        return batch.size();
+    }
+
+    private List<OutboxRow> claim() {
+        List<OutboxRow> rows = jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new OutboxRow(rs.getLong("id"), rs.getString("event_type"),
+                        rs.getString("ordering_key"), rs.getString("payload"), rs.getInt("attempts")),
+                MAX_ATTEMPTS, MAX_ATTEMPTS, BATCH_SIZE);
+        if (!rows.isEmpty()) {
+            namedJdbcTemplate.update(LEASE_SQL, Map.of("seconds", LEASE_SECONDS, "ids", ids(rows)));
+        }
+        return rows;
+    }
+
+    private void deliver(String eventType, List<OutboxRow> rows) {
+        OutboxEventHandler<?> handler = handlers.get(eventType);
+        if (handler == null) {
+            markFailed(rows, "No handler for event type '" + eventType + "'");
+            return;
+        }
+        try {
+            deliver(handler, rows);
+        } catch (RuntimeException e) {
+            if (rows.size() == 1) {
+                markFailed(rows, describe(e));
+                return;
+            }
+            // Something in the batch failed; retry event by event so the others still go through
+            for (OutboxRow row : rows) {
+                try {
+                    deliver(handler, List.of(row));
+                } catch (RuntimeException rowError) {
+                    markFailed(List.of(row), describe(rowError));
+                }
+            }
+        }
+    }
+
+    private <T> void deliver(OutboxEventHandler<T> handler, List<OutboxRow> rows) {
+        int count = transactionTemplate.execute(status -> {
+            // Rows delivered meanwhile by an instance that took over the expired lease are gone
+            // once its transaction commits, which the lock waits for
+            Set<Long> present = new HashSet<>(
+                    namedJdbcTemplate.queryForList(LOCK_SQL, Map.of("ids", ids(rows)), Long.class));
+            List<OutboxRow> ready = withoutHeldBack(rows.stream()
+                    .filter(row -> present.contains(row.id()))
+                    .toList());
+            if (ready.isEmpty()) {
+                return 0;
+            }
+            List<T> payloads = ready.stream()
+                    .map(row -> read(row, handler.getPayloadType()))
+                    .toList();
+            handler.handle(payloads);
+            namedJdbcTemplate.update(DELETE_SQL, Map.of("ids", ids(ready)));
+            return payloads.size();
+        });
+        delivered.increment(count);
+    }
+
+    /**
+     * Drops the rows that an earlier event of the same ordering key, still in the table and not
+     * among these rows, has to precede, and makes them available again. Locking the earlier
+     * events waits for an instance that is delivering one of them to finish.
+     */
+    private List<OutboxRow> withoutHeldBack(List<OutboxRow> rows) {
+        Set<String> keys = rows.stream()
+                .map(OutboxRow::orderingKey)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (keys.isEmpty()) {
+            return rows;
+        }
+        long below = rows.stream().mapToLong(OutboxRow::id).max().getAsLong();
+        Map<String, Long> firstEarlier = new HashMap<>();
+        namedJdbcTemplate.query(EARLIER_SQL, Map.of("keys", keys, "below", below, "ids", ids(rows)),
+                (RowCallbackHandler) rs -> firstEarlier.merge(rs.getString("ordering_key"), rs.getLong("id"), Math::min));
+        if (firstEarlier.isEmpty()) {
+            return rows;
+        }
+
+        List<OutboxRow> ready = new ArrayList<>(rows.size());
+        List<Long> heldBack = new ArrayList<>();
+        for (OutboxRow row : rows) {
+            Long earlier = row.orderingKey() != null ? firstEarlier.get(row.orderingKey()) : null;
+            if (earlier != null && earlier < row.id()) {
+                heldBack.add(row.id());
+            } else {
+                ready.add(row);
+            }
+        }
+        if (!heldBack.isEmpty()) {
+            namedJdbcTemplate.update(RELEASE_SQL, Map.of("ids", heldBack));
+        }
+        return ready;
+    }
+
+    private <T> T read(OutboxRow row, Class<T> type) {
+        try {
+            return objectMapper.readValue(row.payload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload of outbox event #" + row.id(), e);
+        }
+    }
+
+    private void markFailed(List<OutboxRow> rows, String error) {
+        String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            int attempt = row.attempts() + 1;
+            int backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, 1 << Math.min(attempt, 20));
+            updates.add(new Object[]{lastError, backoffSeconds, row.id()});
+            if (attempt >= MAX_ATTEMPTS) {
+                logger.error("Outbox event #{} ({}) failed {} times, giving up: {}",
+                        row.id(), row.eventType(), attempt, lastError);
+            } else {
+                logger.warn("Outbox event #{} ({}) failed, retrying in {}s: {}",
+                        row.id(), row.eventType(), backoffSeconds, lastError);
+            }
+        }
+        jdbcTemplate.batchUpdate(FAIL_SQL, updates);
+        failed.increment(rows.size());
+    }
+
+    private static List<Long> ids(List<OutboxRow> rows) {
+        return rows.stream().map(OutboxRow::id).toList();
+    }
+
+    private static String describe(RuntimeException e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+}
@@ -0,0 +1,23 @@
+package bd.edu.just.backend.service;
+
+import java.util.List;
+
+/**
+ * Delivers one type of {@link TransactionalOutbox} event. {@link OutboxDispatcher} finds the
+ * handlers among the Spring beans.
+ *
+ * Payloads arrive in batches, oldest first, inside a transaction that also deletes their
+ * outbox rows, so database work done by the handler happens exactly once. A handler that
+ * throws is retried with backoff. Anything it does outside the database must tolerate
+ * repeated delivery.
+ */
+public interface OutboxEventHandler<T> {
+
+    /** Event type the handler consumes, as passed to {@link TransactionalOutbox#append}. */
+    String getEventType();
+
+    /** Class the JSON payload is read into. */
+    Class<T> getPayloadType();
+
+    void handle(List<T> payloads);
+}
@@ -14,18 +14,37 @@ import bd.edu.just.backend.repository.ItemInstanceRepository;
 import bd.edu.just.backend.repository.ItemRepository;
 import bd.edu.just.backend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class PurchaseService {
 
+    private static final String INSERT_INSTANCE_SQL =
+            "INSERT INTO item_instances (item_id, purchase_id, barcode, unit_price, status, owner_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 'IN_STOCK', ?, ?, ?)";
+    private static final int INSTANCE_BATCH_SIZE = 500;
+
+    private static final int RECENT_CAPACITY = 50;
+    private static final Duration RECENT_TTL = Duration.ofMinutes(1);
+
     @Autowired
     private PurchaseRepository purchaseRepository;
 
@@ -45,27 +64,95 @@ public class PurchaseService {
     private ItemService itemService;
 
     @Autowired
-    private DesignationService designationService;
+    private UserCapabilitiesService userCapabilitiesService;
 
     @Autowired
     private BarcodeGenerationService barcodeGenerationService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuditEventListener auditEventListener;
+
+    @Autowired
+    private OfficeScopeService officeScopeService;
+
+    @Autowired
+    private CatalogueVersions catalogueVersions;
+
+    @Autowired
+    private InventoryEventBroadcaster inventoryEventBroadcaster;
+
+    // Feed for the dashboard: newest active purchases, kept current by create/update/delete
+    private final RecentActivityBuffer<PurchaseDTO> recentPurchases = new RecentActivityBuffer<>(
+            RECENT_CAPACITY,
+            Comparator.comparing(PurchaseDTO::getPurchaseDate, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(PurchaseDTO::getId, Comparator.reverseOrder()),
+            PurchaseDTO::getId,
+            limit -> purchaseRepository.findRecentPurchases(PageRequest.of(0, limit)).stream()
+                    .map(this::convertToDTO)
+                    .toList(),
+            RECENT_TTL);
+
+    @Transactional(readOnly = true)
     public List<PurchaseDTO> getAllPurchases() {
-        return purchaseRepository.findByIsActiveTrue().stream()
+        OfficeScope scope = officeScopeService.currentScope();
+        if (scope.isEmpty()) {
+            return List.of();
+        }
+        List<Purchase> purchases = scope.isUnrestricted()
+                ? purchaseRepository.findByIsActiveTrue()
+                : purchaseRepository.findActiveInOffices(scope.getOfficeIds());
+        return purchases.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public PurchaseDTO getPurchaseById(Long id) {
         Purchase purchase = purchaseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Purchase not found with id: " + id));
+        if (!isInScope(id)) {
+            throw new RuntimeException("Purchase not found with id: " + id);
+        }
         return convertToDTO(purchase);
     }
 
+    /**
+     * Whether the purchase exists and the current user's office scope covers it.
+     */
+    @Transactional(readOnly = true)
+    public boolean existsInScope(Long id) {
+        return purchaseRepository.existsById(id) && isInScope(id);
+    }
+
+    // A purchase belongs to the offices its purchaser holds an active designation in
+    private boolean isInScope(Long purchaseId) {
+        OfficeScope scope = officeScopeService.currentScope();
+        return scope.isUnrestricted()
+                || (!scope.isEmpty() && purchaseRepository.countByIdInOffices(purchaseId, scope.getOfficeIds()) > 0);
+    }
+
+    private void checkAccess(Long purchaseId) {
+        if (!isInScope(purchaseId)) {
+            throw new AccessDeniedException("No access to purchase #" + purchaseId);
+        }
+    }
+
     @Transactional
     public PurchaseDTO createPurchase(PurchaseDTO purchaseDTO) {
+        PurchaseDTO created = doCreatePurchase(purchaseDTO);
+        recentPurchases.putAfterCommit(created);
+        return created;
+    }
+
+    private PurchaseDTO doCreatePurchase(PurchaseDTO purchaseDTO) {
         User user = userRepository.findById(purchaseDTO.getPurchasedById())
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        // Resolved once for the whole purchase rather than per generated unit
+        UserCapabilities purchaser = userCapabilitiesService.forUser(user);
+        boolean ownedByPurchaser = purchaser.hasPurchasingPower();
 
         // Create the main Purchase entity
         Purchase purchase = new Purchase();
@@ -110,7 +197,7 @@ public class PurchaseService {
                 itemInstance.setStatus(ItemInstance.ItemInstanceStatus.IN_STOCK);
 
                 // Set owner if user has purchasing power
-                if (designationService.hasUserPurchasingPower(user)) {
+                if (ownedByPurchaser) {
                     itemInstance.setOwner(user);
                 }
 
@@ -132,6 +219,8 @@ public class PurchaseService {
         savedPurchase = purchaseRepository.findById(savedPurchase.getId())
                 .orElseThrow(() -> new RuntimeException("Failed to reload purchase"));
 
+        inventoryEventBroadcaster.publishAfterCommit(
+                InventoryEvent.purchaseCreated(savedPurchase.getId(), purchaser.getDesignatedOfficeIds()));
         return convertToDTO(savedPurchase);
     }
 
@@ -139,17 +228,11 @@ public class PurchaseService {
     public PurchaseDTO updatePurchase(Long id, PurchaseDTO purchaseDTO) {
         Purchase existingPurchase = purchaseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Purchase not found with id: " + id));
+        checkAccess(id);
 
         User user = userRepository.findById(purchaseDTO.getPurchasedById())
                 .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // Reverse previous stock updates
-        for (PurchaseItem pi : existingPurchase.getPurchaseItems()) {
-            itemService.updateStock(pi.getItem().getId(), -pi.getQuantity());
-        }
-
-        // Clear old purchase items and item instances
-        existingPurchase.getPurchaseItems().clear();
+        boolean ownedByPurchaser = userCapabilitiesService.forUser(user).hasPurchasingPower();
 
         // Update purchase fields
         existingPurchase.setVendorName(purchaseDTO.getVendorName());
@@ -159,8 +242,29 @@ public class PurchaseService {
         existingPurchase.setRemarks(purchaseDTO.getRemarks());
         existingPurchase.setPurchasedBy(user);
 
-        // Add new items
+        // Diff the lines: matched lines only change by their delta, unmatched old lines are
+        // removed, unmatched new lines are added. Stock moves by the net change per item.
+        User owner = ownedByPurchaser ? user : null;
+        List<PurchaseItem> unmatched = new ArrayList<>(existingPurchase.getPurchaseItems());
+        List<PurchaseItemDTO> added = new ArrayList<>();
+        Map<Long, Integer> stockChanges = new LinkedHashMap<>();
+
         for (PurchaseItemDTO itemDTO : purchaseDTO.getItems()) {
+            PurchaseItem line = takeMatchingLine(unmatched, itemDTO);
+            if (line == null) {
+                added.add(itemDTO);
+            } else {
+                updateLine(existingPurchase, line, itemDTO, owner, stockChanges);
+            }
+        }
+
+        for (PurchaseItem removed : unmatched) {
+            retireInstances(existingPurchase, removed.getItem(), removed.getQuantity());
+            stockChanges.merge(removed.getItem().getId(), -removed.getQuantity(), Integer::sum);
+            existingPurchase.getPurchaseItems().remove(removed);
+        }
+
+        for (PurchaseItemDTO itemDTO : added) {
             Item item = itemRepository.findById(itemDTO.getItemId())
                     .orElseThrow(() -> new RuntimeException("Item not found with id: " + itemDTO.getItemId()));
 
@@ -173,28 +277,15 @@ public class PurchaseService {
 
             existingPurchase.addPurchaseItem(purchaseItem);
 
-            // Generate barcodes for new items
-            for (int i = 0; i < itemDTO.getQuantity(); i++) {
-                String barcode = barcodeGenerationService.generateBarcode(item.getCode());
-
-                ItemInstance itemInstance = new ItemInstance();
-                itemInstance.setItem(item);
-                itemInstance.setPurchase(existingPurchase);
-                itemInstance.setBarcode(barcode);
-                itemInstance.setUnitPrice(itemDTO.getUnitPrice());
-                itemInstance.setStatus(ItemInstance.ItemInstanceStatus.IN_STOCK);
-
-                // Set owner if user has purchasing power
-                if (designationService.hasUserPurchasingPower(user)) {
-                    itemInstance.setOwner(user);
-                }
+            insertInstances(existingPurchase, item, itemDTO.getQuantity(), itemDTO.getUnitPrice(), owner);
+            stockChanges.merge(item.getId(), itemDTO.getQuantity(), Integer::sum);
+        }
 
-                itemInstanceRepository.save(itemInstance);
+        stockChanges.forEach((itemId, change) -> {
+            if (change != 0) {
+                itemService.updateStock(itemId, change);
             }
-
-            // Update item stock with new quantity
-            itemService.updateStock(item.getId(), itemDTO.getQuantity());
-        }
+        });
 
         // Calculate and set total price
         double totalPrice = purchaseDTO.getItems().stream()
@@ -204,46 +295,203 @@ public class PurchaseService {
 
         Purchase updatedPurchase = purchaseRepository.save(existingPurchase);
 
-        return convertToDTO(updatedPurchase);
+        PurchaseDTO updated = convertToDTO(updatedPurchase);
+        if (Boolean.TRUE.equals(updated.getIsActive())) {
+            recentPurchases.putAfterCommit(updated);
+        } else {
+            recentPurchases.removeAfterCommit(id);
+        }
+        return updated;
+    }
+
+    /**
+     * Removes and returns the existing line the incoming one refers to: the line with the same
+     * id if it still has the same item, otherwise the first remaining line for that item.
+     */
+    private PurchaseItem takeMatchingLine(List<PurchaseItem> unmatched, PurchaseItemDTO itemDTO) {
+        PurchaseItem match = null;
+        if (itemDTO.getId() != null) {
+            match = unmatched.stream()
+                    .filter(line -> itemDTO.getId().equals(line.getId())
+                            && line.getItem().getId().equals(itemDTO.getItemId()))
+                    .findFirst()
+                    .orElse(null);
+        }
+        if (match == null) {
+            match = unmatched.stream()
+                    .filter(line -> line.getItem().getId().equals(itemDTO.getItemId()))
+                    .findFirst()
+                    .orElse(null);
+        }
+        if (match != null) {
+            unmatched.remove(match);
+        }
+        return match;
+    }
+
+    private void updateLine(Purchase purchase, PurchaseItem line, PurchaseItemDTO itemDTO, User owner,
+                            Map<Long, Integer> stockChanges) {
+        int delta = itemDTO.getQuantity() - line.getQuantity();
+        boolean priceChanged = !Objects.equals(line.getUnitPrice(), itemDTO.getUnitPrice());
+        if (delta == 0 && !priceChanged) {
+            return;
+        }
+
+        if (delta > 0) {
+            insertInstances(purchase, line.getItem(), delta, itemDTO.getUnitPrice(), owner);
+        } else if (delta < 0) {
+            retireInstances(purchase, line.getItem(), -delta);
+        }
+        if (priceChanged) {
+            int repriced = itemInstanceRepository.updateUnitPrice(purchase.getId(), line.getItem().getId(),
+                    itemDTO.getUnitPrice());
+            auditEventListener.recordNativeChange(ItemInstance.class, null, "UPDATE",
+                    "unitPrice: " + line.getUnitPrice() + " -> " + itemDTO.getUnitPrice() + " for " + repriced
+                            + " instance(s) of item #" + line.getItem().getId() + " (purchase #" + purchase.getId() + ")");
+        }
+
+        line.setQuantity(itemDTO.getQuantity());
+        line.setUnitPrice(itemDTO.getUnitPrice());
+        line.setTotalPrice(itemDTO.getQuantity() * itemDTO.getUnitPrice());
+        stockChanges.merge(line.getItem().getId(), delta, Integer::sum);
+    }
+
+    /**
+     * Inserts {@code quantity} in-stock instances with freshly generated barcodes in JDBC batches.
+     */
+    private void insertInstances(Purchase purchase, Item item, int quantity, Double unitPrice, User owner) {
+        List<String> barcodes = barcodeGenerationService.generateBarcodeBlock(item.getCode(), quantity);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_INSTANCE_SQL, barcodes, INSTANCE_BATCH_SIZE, (ps, barcode) -> {
+            ps.setLong(1, item.getId());
+            ps.setLong(2, purchase.getId());
+            ps.setString(3, barcode);
+            ps.setDouble(4, unitPrice);
+            if (owner != null) {
+                ps.setLong(5, owner.getId());
+            } else {
+                ps.setNull(5, Types.BIGINT);
+            }
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+        auditEventListener.recordNativeChange(ItemInstance.class, null, "CREATE",
+                quantity + " IN_STOCK instance(s) of item #" + item.getId() + " at " + unitPrice
+                        + " (purchase #" + purchase.getId() + ")");
+    }
+
+    /**
+     * Retires {@code quantity} of the purchase's in-stock instances of the item. Units that have
+     * already been distributed cannot be taken back, so the update fails if too few are in stock.
+     */
+    private void retireInstances(Purchase purchase, Item item, int quantity) {
+        int retired = itemInstanceRepository.retireInStock(purchase.getId(), item.getId(), quantity);
+        if (retired < quantity) {
+            throw new RuntimeException("Cannot remove " + quantity + " unit(s) of " + item.getName()
+                    + ": only " + retired + " are still in stock");
+        }
+        auditEventListener.recordNativeChange(ItemInstance.class, null, "UPDATE",
+                "status: IN_STOCK -> RETIRED for " + retired + " instance(s) of item #" + item.getId()
+                        + " (purchase #" + purchase.getId() + ")");
     }
 
+    @Transactional(readOnly = true)
     public List<PurchaseDTO> getPurchasesByDateRange(LocalDate startDate, LocalDate endDate) {
-        return purchaseRepository.findByDateRange(startDate, endDate).stream()
+        OfficeScope scope = officeScopeService.currentScope();
+        if (scope.isEmpty()) {
+            return List.of();
+        }
+        List<Purchase> purchases = scope.isUnrestricted()
+                ? purchaseRepository.findByDateRange(startDate, endDate)
+                : purchaseRepository.findByDateRangeInOffices(startDate, endDate, scope.getOfficeIds());
+        return purchases.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
-    public List<PurchaseDTO> getRecentPurchases() {
-        return purchaseRepository.findRecentPurchases().stream()
-                .limit(10)
+    /**
+     * The newest {@code limit} active purchases (1 to {@value #RECENT_CAPACITY}), served from
+     * memory; the database is only read when the buffer is first used or has gone stale.
+     * Office-scoped users get a top-N query over their offices instead.
+     */
+    @Transactional(readOnly = true)
+    public List<PurchaseDTO> getRecentPurchases(int limit) {
+        int size = Math.max(1, Math.min(limit, RECENT_CAPACITY));
+        OfficeScope scope = officeScopeService.currentScope();
+        if (scope.isUnrestricted()) {
+            return recentPurchases.newest(size);
+        }
+        if (scope.isEmpty()) {
+            return List.of();
+        }
+        return purchaseRepository.findRecentPurchasesInOffices(scope.getOfficeIds(),
+                        PageRequest.of(0, size)).stream()
                 .map(this::convertToDTO)
-                .collect(Collectors.toList());
+                .toList();
     }
 
+    /**
+     * Soft-deletes the purchase and retires its in-stock instances, taking exactly the retired
+     * units back out of stock. Units already distributed left stock when they were handed out,
+     * so they are not subtracted again. Deleting an already deleted purchase changes nothing.
+     * A purchase whose in-stock units are already reserved by distributions cannot be deleted.
+     */
     @Transactional
     public void deletePurchase(Long id) {
-        Purchase purchase = purchaseRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Purchase not found with id: " + id));
-        
-        // Soft delete by setting isActive to false
-        purchase.setIsActive(false);
-        purchaseRepository.save(purchase);
-        
-        // Optionally, you could also reverse the stock updates
-        for (PurchaseItem pi : purchase.getPurchaseItems()) {
-            itemService.updateStock(pi.getItem().getId(), -pi.getQuantity());
+        if (!isInScope(id)) {
+            if (!purchaseRepository.existsById(id)) {
+                throw new RuntimeException("Purchase not found with id: " + id);
+            }
+            throw new AccessDeniedException("No access to purchase #" + id);
+        }
+        if (purchaseRepository.deactivate(id) == 0) {
+            if (!purchaseRepository.existsById(id)) {
+                throw new RuntimeException("Purchase not found with id: " + id);
+            }
+            return;
+        }
+        recentPurchases.removeAfterCommit(id);
+
+        // The instances are locked first, so a concurrent approval cannot claim one between the
+        // stock reversal and the retire: both see exactly the instances counted here
+        Map<Long, Integer> inStock = new LinkedHashMap<>();
+        for (Long itemId : itemInstanceRepository.lockInStockItemIds(id)) {
+            inStock.merge(itemId, 1, Integer::sum);
         }
+        itemRepository.reverseInStockForPurchase(id);
+        // Stock taken by distributions still waiting for approval leaves the instances in stock;
+        // reversing those again would count the same units out twice
+        if (!inStock.isEmpty() && itemRepository.countWithNegativeStock(inStock.keySet()) > 0) {
+            throw new IllegalStateException("Purchase #" + id + " cannot be deleted: its stock is reserved by distributions");
+        }
+        int retired = itemInstanceRepository.retireAllInStock(id);
+        inStock.forEach((itemId, count) ->
+                inventoryEventBroadcaster.publishAfterCommit(InventoryEvent.stockChanged(itemId, -count)));
+
+        // Native statements bypass the Hibernate events behind auditing and catalogue ETags
+        catalogueVersions.bump(CatalogueVersions.Catalogue.ITEMS);
+        inventoryEventBroadcaster.publishAfterCommit(InventoryEvent.purchaseDeleted(id, null));
+        auditEventListener.recordNativeChange(Purchase.class, id, "UPDATE", "isActive: true -> false");
+        auditEventListener.recordNativeChange(Item.class, null, "UPDATE",
+                "stock reduced by " + retired + " retired instance(s) of purchase #" + id);
     }
 
+    @Transactional(readOnly = true)
     public List<ItemInstanceDTO> getItemInstancesByPurchase(Long purchaseId) {
+        if (!isInScope(purchaseId)) {
+            throw new RuntimeException("Purchase not found with id: " + purchaseId);
+        }
         List<ItemInstance> instances = itemInstanceRepository.findByPurchaseId(purchaseId);
         return instances.stream()
                 .map(this::convertItemInstanceToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public ItemInstanceDTO getItemInstanceByBarcode(String barcode) {
-        Optional<ItemInstance> instance = itemInstanceRepository.findByBarcode(barcode);
+        // Out-of-scope instances are reported as missing, like out-of-scope purchases
+        Optional<ItemInstance> instance = itemInstanceRepository.findByBarcode(barcode)
+                .filter(found -> isInScope(found.getPurchase().getId()));
         if (instance.isPresent()) {
             return convertItemInstanceToDTO(instance.get());
         } else {
@@ -251,7 +499,7 @@ public class PurchaseService {
         }
     }
 
-    private ItemInstanceDTO convertItemInstanceToDTO(ItemInstance instance) {
+    public ItemInstanceDTO convertItemInstanceToDTO(ItemInstance instance) {
         ItemInstanceDTO dto = new ItemInstanceDTO();
         dto.setId(instance.getId());
         dto.setItemId(instance.getItem().getId());
@@ -295,7 +543,7 @@ public class PurchaseService {
         return dto;
     }
 
-    private PurchaseDTO convertToDTO(Purchase purchase) {
+    public PurchaseDTO convertToDTO(Purchase purchase) {
         PurchaseDTO dto = new PurchaseDTO();
         dto.setId(purchase.getId());
         
@@ -0,0 +1,149 @@
+package bd.edu.just.backend.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * The newest {@code capacity} entries of an activity feed, kept in memory and updated by the
+ * write paths after their transaction commits, so reading the feed never touches the history.
+ *
+ * The buffer is loaded with a top-N query on first use and reloaded when it has been emptied
+ * below the requested size by removals, or when it is older than the TTL (which covers writes
+ * it never saw, such as those made by another instance).
+ */
+public class RecentActivityBuffer<T> {
+
+    private final int capacity;
+    private final Comparator<T> newestFirst;
+    private final Function<T, Object> idOf;
+    private final IntFunction<List<T>> loader;
+    private final long ttlNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<T> entries = new ArrayList<>();
+    private boolean loaded;
+    // True when the last load returned fewer rows than the capacity: the buffer holds everything
+    private boolean complete;
+    private long loadedAt;
+
+    /**
+     * @param loader returns the newest entries, newest first, at most the given number
+     */
+    public RecentActivityBuffer(int capacity, Comparator<T> newestFirst, Function<T, Object> idOf,
+                                IntFunction<List<T>> loader, Duration ttl) {
+        this.capacity = capacity;
+        this.newestFirst = newestFirst;
+        this.idOf = idOf;
+        this.loader = loader;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * The newest {@code limit} entries, newest first; {@code limit} is capped at the capacity
+     * and a negative one returns nothing.
+     */
+    public List<T> newest(int limit) {
+        int size = Math.max(0, Math.min(limit, capacity));
+        lock.lock();
+        try {
+            if (!loaded || System.nanoTime() - loadedAt > ttlNanos || (!complete && entries.size() < size)) {
+                reload();
+            }
+            return List.copyOf(entries.subList(0, Math.min(size, entries.size())));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the entry with the same id once the current transaction commits
+     * (immediately if there is none).
+     */
+    public void putAfterCommit(T entry) {
+        afterCommit(() -> put(entry));
+    }
+
+    public void removeAfterCommit(Object id) {
+        afterCommit(() -> remove(id));
+    }
+
+    public void invalidate() {
+        lock.lock();
+        try {
+            loaded = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(T entry) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            removeById(idOf.apply(entry));
+            int index = 0;
+            while (index < entries.size() && newestFirst.compare(entries.get(index), entry) <= 0) {
+                index++;
+            }
+            // Older than everything in a full buffer: not part of the feed
+            if (index == entries.size() && entries.size() >= capacity && !complete) {
+                return;
+            }
+            entries.add(index, entry);
+            if (entries.size() > capacity) {
+                entries.remove(entries.size() - 1);
+                complete = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Object id) {
+        lock.lock();
+        try {
+            if (loaded) {
+                removeById(id);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeById(Object id) {
+        entries.removeIf(existing -> Objects.equals(idOf.apply(existing), id));
+    }
+
+    private void reload() {
+        List<T> newest = loader.apply(capacity);
+        entries.clear();
+        entries.addAll(newest);
+        complete = newest.size() < capacity;
+        loaded = true;
+        loadedAt = System.nanoTime();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package bd.edu.just.backend.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts second-level cache regions of reference entities after writes that bypass
+ * Hibernate (JDBC batch upserts), which the cache would otherwise never see.
+ */
+@Component
+public class ReferenceCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ReferenceCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Drops the entity's region and the cached query results now and again once the current
+     * transaction commits, so nothing read from the uncommitted state survives.
+     */
+    public void evict(Class<?> entityClass) {
+        evictNow(entityClass);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(entityClass);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Class<?> entityClass) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(entityClass);
+        cache.evictDefaultQueryRegion();
+    }
+}
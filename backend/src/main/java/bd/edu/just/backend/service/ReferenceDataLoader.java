@@ -0,0 +1,163 @@
+package bd.edu.just.backend.service;
+
+import bd.edu.just.backend.model.ReferenceDataChecksum;
+import bd.edu.just.backend.repository.ReferenceDataChecksumRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Loads every {@link ReferenceDataSet} from its CSV seed file on startup.
+ *
+ * Each row is hashed and compared with the checksum stored from the previous load; only new
+ * or changed rows are upserted, in batches, inside one transaction per data set. When nothing
+ * changed the whole load costs a single checksum query per data set.
+ *
+ * Disabled with {@code app.seed.enabled=false} (the production profile), where seeding is a
+ * deployment step rather than part of every boot: a run with the {@code seed} profile. A data set
+ * that fails to load is logged and skipped, unless {@code app.seed.fail-on-error} is set (as the
+ * seed profile does), in which case startup fails once every data set has been tried.
+ */
+@Component
+@ConditionalOnProperty(name = "app.seed.enabled", havingValue = "true", matchIfMissing = true)
+public class ReferenceDataLoader implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataLoader.class);
+
+    private static final int BATCH_SIZE = 200;
+
+    private static final String UPSERT_CHECKSUM_SQL =
+            "INSERT INTO reference_data_checksums (dataset, record_key, checksum, updated_at) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE checksum = VALUES(checksum), updated_at = VALUES(updated_at)";
+
+    private final List<ReferenceDataSet> dataSets;
+    private final ReferenceDataChecksumRepository checksumRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean failOnError;
+
+    public ReferenceDataLoader(List<ReferenceDataSet> dataSets,
+                               ReferenceDataChecksumRepository checksumRepository,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.seed.fail-on-error:false}") boolean failOnError) {
+        this.dataSets = dataSets;
+        this.checksumRepository = checksumRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.failOnError = failOnError;
+    }
+
+    @Override
+    public void run(String... args) {
+        List<String> failed = new ArrayList<>();
+        for (ReferenceDataSet dataSet : dataSets) {
+            try {
+                load(dataSet);
+            } catch (Exception e) {
+                logger.error("Failed to load reference data set '{}'", dataSet.getName(), e);
+                failed.add(dataSet.getName());
+            }
+        }
+        if (failOnError && !failed.isEmpty()) {
+            throw new IllegalStateException("Failed to load reference data set(s): " + String.join(", ", failed));
+        }
+    }
+
+    public void load(ReferenceDataSet dataSet) throws IOException {
+        List<Map<String, String>> rows = readRows(dataSet.getResource());
+
+        Map<String, String> storedChecksums = checksumRepository.findByDataset(dataSet.getName()).stream()
+                .collect(Collectors.toMap(ReferenceDataChecksum::getRecordKey, ReferenceDataChecksum::getChecksum));
+
+        List<Map<String, String>> changedRows = new ArrayList<>();
+        List<Object[]> changedChecksums = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Map<String, String> row : rows) {
+            String key = dataSet.getKey(row);
+            String checksum = checksum(row);
+            if (!checksum.equals(storedChecksums.get(key))) {
+                changedRows.add(row);
+                changedChecksums.add(new Object[]{dataSet.getName(), key, checksum, now});
+            }
+        }
+
+        if (changedRows.isEmpty()) {
+            logger.info("Reference data '{}' is up to date ({} rows), skipping", dataSet.getName(), rows.size());
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < changedRows.size(); from += BATCH_SIZE) {
+                dataSet.upsert(changedRows.subList(from, Math.min(from + BATCH_SIZE, changedRows.size())));
+            }
+            dataSet.afterUpsert(rows, changedRows);
+            jdbcTemplate.batchUpdate(UPSERT_CHECKSUM_SQL, changedChecksums);
+        });
+
+        logger.info("Reference data '{}' loaded: {} of {} rows new or changed",
+                dataSet.getName(), changedRows.size(), rows.size());
+    }
+
+    private List<Map<String, String>> readRows(String resource) throws IOException {
+        InputStream in = getClass().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IOException("Reference data file not found: " + resource);
+        }
+
+        List<Map<String, String>> rows = new ArrayList<>();
+        List<String> header = new ArrayList<>();
+        try (InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            TabularFileReader.readCsv(reader, (rowNumber, cells) -> {
+                if (header.isEmpty()) {
+                    cells.forEach(cell -> header.add(cell.trim().toLowerCase()));
+                    return;
+                }
+                Map<String, String> row = new LinkedHashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    row.put(header.get(i), i < cells.size() ? cells.get(i).trim() : "");
+                }
+                rows.add(row);
+            });
+        }
+        return rows;
+    }
+
+    private static String checksum(Map<String, String> row) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // Hash in column-name order so reordering CSV columns does not look like a change
+            for (Map.Entry<String, String> entry : new TreeMap<>(row).entrySet()) {
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0x1F);
+                digest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0x1E);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
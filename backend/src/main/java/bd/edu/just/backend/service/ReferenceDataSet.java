@@ -0,0 +1,34 @@
+package bd.edu.just.backend.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A CSV-backed reference data set (offices, and later categories, units, roles) that
+ * {@link ReferenceDataLoader} keeps in sync with the database on startup.
+ *
+ * Rows are passed as header-to-value maps. Only rows whose content changed since the last
+ * load are handed to {@link #upsert}, so implementations must be idempotent upserts keyed
+ * on {@link #getKey}.
+ */
+public interface ReferenceDataSet {
+
+    /** Name used to namespace stored checksums, e.g. "offices". */
+    String getName();
+
+    /** Classpath location of the CSV seed file. */
+    String getResource();
+
+    /** Natural key that identifies a row across loads. */
+    String getKey(Map<String, String> row);
+
+    /** Insert or update one batch of changed rows. */
+    void upsert(List<Map<String, String>> rows);
+
+    /**
+     * Called once after all batches were written, with every row of the file and the subset
+     * that changed. Used for cross-row references such as parent links.
+     */
+    default void afterUpsert(List<Map<String, String>> allRows, List<Map<String, String>> changedRows) {
+    }
+}
@@ -0,0 +1,42 @@
+package bd.edu.just.backend.service;
+
+import java.io.OutputStream;
+
+public enum ReportFormat {
+
+    CSV("text/csv", "csv") {
+        @Override
+        public ReportWriter open(OutputStream out) {
+            return new CsvReportWriter(out);
+        }
+    },
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx") {
+        @Override
+        public ReportWriter open(OutputStream out) {
+            return new XlsxReportWriter(out);
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    ReportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public abstract ReportWriter open(OutputStream out);
+
+    public String getContentType() { return contentType; }
+
+    public String getExtension() { return extension; }
+
+    public static ReportFormat fromParam(String format) {
+        for (ReportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported report format: " + format);
+    }
+}
@@ -0,0 +1,224 @@
+package bd.edu.just.backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregate reports for the reports and analytics pages.
+ *
+ * Every report is a single SQL aggregation; rows are written to the CSV/XLSX output as the
+ * result set is read, so neither the raw tables nor the full report are held in memory. The
+ * rows are fetched {@link #FETCH_SIZE} at a time only where the driver honours the fetch size:
+ * MySQL Connector/J needs {@code useCursorFetch=true}, which the production profile sets, and
+ * otherwise reads the whole result set into the driver's buffer.
+ * Reports only cover the offices in the caller's scope, which is resolved when the report is
+ * prepared rather than when it is written.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ReportService {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String STOCK_VALUATION_SQL =
+            "SELECT o.name AS office, c.name AS category, COUNT(*) AS items, SUM(oi.quantity) AS quantity, " +
+            "ROUND(SUM(oi.quantity * COALESCE(cost.unit_cost, 0)), 2) AS stock_value " +
+            "FROM office_inventory oi " +
+            "JOIN offices o ON o.id = oi.office_id " +
+            "JOIN items i ON i.id = oi.item_id " +
+            "JOIN item_categories c ON c.id = i.category_id " +
+            // Valued at the weighted average purchase price of each item over its active purchases
+            "LEFT JOIN (SELECT pi.item_id, SUM(pi.total_price) / NULLIF(SUM(pi.quantity), 0) AS unit_cost " +
+            "           FROM purchase_items pi JOIN purchases p ON p.id = pi.purchase_id " +
+            "           WHERE p.is_active = TRUE GROUP BY pi.item_id) cost ON cost.item_id = i.id " +
+            "WHERE oi.quantity > 0";
+
+    private static final String PURCHASE_SPEND_SQL =
+            "SELECT p.vendor_name AS vendor, COUNT(*) AS purchases, ROUND(SUM(p.total_price), 2) AS total_spend, " +
+            "ROUND(AVG(p.total_price), 2) AS average_purchase, " +
+            "MIN(p.purchase_date) AS first_purchase, MAX(p.purchase_date) AS last_purchase " +
+            "FROM purchases p " +
+            "WHERE p.is_active = TRUE";
+
+    private static final String DISTRIBUTION_THROUGHPUT_SQL =
+            "SELECT YEAR(d.date_distributed) AS year, MONTH(d.date_distributed) AS month, o.name AS office, " +
+            "COUNT(*) AS requests, " +
+            "SUM(CASE WHEN d.status IN ('APPROVED', 'COMPLETED') THEN 1 ELSE 0 END) AS fulfilled, " +
+            "SUM(CASE WHEN d.status = 'PENDING' THEN 1 ELSE 0 END) AS pending, " +
+            "SUM(CASE WHEN d.status IN ('REJECTED', 'CANCELLED') THEN 1 ELSE 0 END) AS declined, " +
+            "SUM(CASE WHEN d.status IN ('APPROVED', 'COMPLETED') THEN d.quantity ELSE 0 END) AS quantity_distributed " +
+            "FROM item_distributions d " +
+            "JOIN offices o ON o.id = d.office_id " +
+            "WHERE d.is_active = TRUE";
+
+    // Purchases belong to the offices their purchaser holds an active designation in
+    private static final String PURCHASE_IN_OFFICES_SQL =
+            " AND EXISTS (SELECT 1 FROM designations pd WHERE pd.user_id = p.purchased_by AND pd.is_active = TRUE" +
+            " AND pd.office_id IN (%s))";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OfficeScopeService officeScopeService;
+
+    public Report stockValuation(Long officeId, Long categoryId) {
+        StringBuilder sql = new StringBuilder(STOCK_VALUATION_SQL);
+        List<Object> args = new ArrayList<>();
+        restrictToScope(" AND oi.office_id IN (%s)", sql, args);
+        if (officeId != null) {
+            officeScopeService.checkAccess(officeId);
+            sql.append(" AND oi.office_id = ?");
+            args.add(officeId);
+        }
+        if (categoryId != null) {
+            sql.append(" AND i.category_id = ?");
+            args.add(categoryId);
+        }
+        sql.append(" GROUP BY o.id, o.name, c.id, c.name ORDER BY o.name, c.name");
+        return new Report("stock-valuation", sql.toString(), args);
+    }
+
+    public Report purchaseSpend(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        StringBuilder sql = new StringBuilder(PURCHASE_SPEND_SQL);
+        List<Object> args = new ArrayList<>();
+        restrictToScope(PURCHASE_IN_OFFICES_SQL, sql, args);
+        if (from != null) {
+            sql.append(" AND p.purchase_date >= ?");
+            args.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND p.purchase_date <= ?");
+            args.add(Date.valueOf(to));
+        }
+        sql.append(" GROUP BY p.vendor_name ORDER BY total_spend DESC");
+        return new Report("purchase-spend", sql.toString(), args);
+    }
+
+    public Report distributionThroughput(LocalDate from, LocalDate to, Long officeId) {
+        validateRange(from, to);
+        StringBuilder sql = new StringBuilder(DISTRIBUTION_THROUGHPUT_SQL);
+        List<Object> args = new ArrayList<>();
+        restrictToScope(" AND d.office_id IN (%s)", sql, args);
+        if (from != null) {
+            sql.append(" AND d.date_distributed >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            sql.append(" AND d.date_distributed < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+        if (officeId != null) {
+            officeScopeService.checkAccess(officeId);
+            sql.append(" AND d.office_id = ?");
+            args.add(officeId);
+        }
+        sql.append(" GROUP BY YEAR(d.date_distributed), MONTH(d.date_distributed), o.id, o.name " +
+                "ORDER BY year, month, office");
+        return new Report("distribution-throughput", sql.toString(), args);
+    }
+
+    /**
+     * Runs the report query and writes the header plus one line per result row to {@code out}.
+     */
+    public void write(Report report, ReportFormat format, OutputStream out) throws IOException {
+        try (ReportWriter writer = format.open(out)) {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(report.getSql());
+                ps.setFetchSize(FETCH_SIZE);
+                for (int i = 0; i < report.getArgs().size(); i++) {
+                    ps.setObject(i + 1, report.getArgs().get(i));
+                }
+                return ps;
+            }, (ResultSetExtractor<Void>) rs -> {
+                try {
+                    writeRows(rs, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void writeRows(ResultSet rs, ReportWriter writer) throws SQLException, IOException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int columnCount = meta.getColumnCount();
+        List<String> header = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            header.add(meta.getColumnLabel(i).toLowerCase());
+        }
+        writer.writeRow(header);
+
+        List<Object> values = new ArrayList<>(columnCount);
+        while (rs.next()) {
+            values.clear();
+            for (int i = 1; i <= columnCount; i++) {
+                values.add(rs.getObject(i));
+            }
+            writer.writeRow(values);
+        }
+    }
+
+    /**
+     * Appends {@code filter}, whose {@code %s} takes the office id placeholders, unless the
+     * caller is unrestricted. An empty scope matches no rows.
+     */
+    private void restrictToScope(String filter, StringBuilder sql, List<Object> args) {
+        OfficeScope scope = officeScopeService.currentScope();
+        if (scope.isUnrestricted()) {
+            return;
+        }
+        if (scope.isEmpty()) {
+            sql.append(" AND 1 = 0");
+            return;
+        }
+        sql.append(String.format(filter, String.join(", ", Collections.nCopies(scope.getOfficeIds().size(), "?"))));
+        args.addAll(scope.getOfficeIds());
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+    }
+
+    /**
+     * A prepared report: its file name and the parameterized aggregation to run.
+     */
+    public static class Report {
+        private final String name;
+        private final String sql;
+        private final List<Object> args;
+
+        Report(String name, String sql, List<Object> args) {
+            this.name = name;
+            this.sql = sql;
+            this.args = args;
+        }
+
+        public String getName() { return name; }
+        public String getSql() { return sql; }
+        public List<Object> getArgs() { return args; }
+    }
+}
@@ -0,0 +1,14 @@
+package bd.edu.just.backend.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes report rows to an output stream as they are produced. The first row is the header.
+ * {@link #close()} finishes the document but leaves the underlying stream open.
+ */
+public interface ReportWriter extends Closeable {
+
+    void writeRow(List<?> values) throws IOException;
+}
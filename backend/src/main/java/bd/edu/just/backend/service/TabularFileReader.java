@@ -0,0 +1,184 @@
+package bd.edu.just.backend.service;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streams rows out of CSV or XLSX files one at a time, so large uploads are never
+ * materialized in memory. Row numbers are 1-based and include the header row.
+ */
+public final class TabularFileReader {
+
+    @FunctionalInterface
+    public interface RowHandler {
+        void handle(long rowNumber, List<String> cells);
+    }
+
+    private TabularFileReader() {}
+
+    public static void read(InputStream in, String filename, RowHandler handler) throws IOException {
+        if (filename != null && filename.toLowerCase().endsWith(".xlsx")) {
+            readXlsx(in, handler);
+        } else {
+            readCsv(new InputStreamReader(in, StandardCharsets.UTF_8), handler);
+        }
+    }
+
+    /**
+     * RFC 4180 style parsing: quoted fields may contain commas, doubled quotes and line breaks.
+     */
+    public static void readCsv(Reader source, RowHandler handler) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader ? (BufferedReader) source : new BufferedReader(source);
+        List<String> cells = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean rowHasContent = false;
+        long rowNumber = 0;
+        int c;
+
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+            if (inQuotes) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append(ch);
+                }
+                continue;
+            }
+
+            switch (ch) {
+                case '"' -> {
+                    inQuotes = true;
+                    rowHasContent = true;
+                }
+                case ',' -> {
+                    cells.add(field.toString());
+                    field.setLength(0);
+                    rowHasContent = true;
+                }
+                case '\r' -> {
+                    // Swallowed; '\n' terminates the row
+                }
+                case '\n' -> {
+                    if (rowHasContent || field.length() > 0) {
+                        cells.add(field.toString());
+                        handler.handle(++rowNumber, cells);
+                    }
+                    cells = new ArrayList<>();
+                    field.setLength(0);
+                    rowHasContent = false;
+                }
+                default -> {
+                    // Strip a UTF-8 byte order mark at the very start of the file
+                    if (ch == '\uFEFF' && rowNumber == 0 && cells.isEmpty() && field.length() == 0) {
+                        continue;
+                    }
+                    field.append(ch);
+                    rowHasContent = true;
+                }
+            }
+        }
+
+        if (rowHasContent || field.length() > 0) {
+            cells.add(field.toString());
+            handler.handle(++rowNumber, cells);
+        }
+    }
+
+    /**
+     * Reads the first sheet of a workbook through POI's SAX event API, which keeps only the
+     * current row (plus the shared strings table) in memory.
+     */
+    public static void readXlsx(InputStream in, RowHandler handler) throws IOException {
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(in);
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = xssfReader.getStylesTable();
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new SheetRowCollector(handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Invalid XLSX file: " + e.getMessage(), e);
+        } finally {
+            // revert() releases the package without attempting to write it back
+            if (pkg != null) {
+                pkg.revert();
+            }
+        }
+    }
+
+    private static class SheetRowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler handler;
+        private List<String> cells = new ArrayList<>();
+
+        SheetRowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (cells.stream().anyMatch(cell -> !cell.isBlank())) {
+                handler.handle(rowNum + 1L, cells);
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // Blank cells are not reported by the SAX handler, so pad up to this column
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue != null ? formattedValue : "");
+        }
+    }
+}
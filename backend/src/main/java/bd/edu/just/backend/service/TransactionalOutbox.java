@@ -0,0 +1,65 @@
+package bd.edu.just.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records side effects of a write in the {@code outbox_events} table, in the same transaction
+ * as the write itself. The request only pays for one insert; {@link OutboxDispatcher} hands the
+ * events to their {@link OutboxEventHandler} once the transaction has committed, and never if
+ * it rolls back.
+ */
+@Component
+public class TransactionalOutbox {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_events (event_type, ordering_key, payload, attempts, available_at, created_at) " +
+            "VALUES (?, ?, ?, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxDispatcher dispatcher;
+
+    public TransactionalOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, OutboxDispatcher dispatcher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Appends an event to the current transaction, which must exist: without one the event
+     * could not be tied to the change it describes.
+     */
+    public void append(String eventType, Object payload) {
+        append(eventType, null, payload);
+    }
+
+    /**
+     * Appends an event that is delivered only after every earlier event with the same
+     * {@code orderingKey}, for side effects whose result depends on their order.
+     */
+    public void append(String eventType, String orderingKey, Object payload) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox event '" + eventType + "' appended outside a transaction");
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize outbox event '" + eventType + "'", e);
+        }
+        jdbcTemplate.update(INSERT_SQL, eventType, orderingKey, json);
+
+        // Deliver straight after commit instead of waiting for the next poll
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.wake();
+            }
+        });
+    }
+}
@@ -16,12 +16,14 @@ public class UnitService {
     @Autowired
     private UnitRepository unitRepository;
 
+    @Transactional(readOnly = true)
     public List<UnitDTO> getAllUnits() {
         return unitRepository.findByIsActiveTrue().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public UnitDTO getUnitById(Long id) {
         Unit unit = unitRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Unit not found with id: " + id));
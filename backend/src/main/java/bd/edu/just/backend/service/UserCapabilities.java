@@ -0,0 +1,65 @@
+package bd.edu.just.backend.service;
+
+import java.util.Set;
+
+/**
+ * What a user may do, resolved from their active designations in one query: role names,
+ * purchasing power and office scope. Immutable, so one snapshot can be shared by every
+ * check made while serving a request.
+ */
+public final class UserCapabilities {
+
+    private static final UserCapabilities NONE = new UserCapabilities(null, Set.of(), false, Set.of(), OfficeScope.none());
+
+    private final String username;
+    private final Set<String> roles;
+    private final boolean purchasingPower;
+    private final Set<Long> designatedOfficeIds;
+    private final OfficeScope officeScope;
+
+    UserCapabilities(String username, Set<String> roles, boolean purchasingPower, Set<Long> designatedOfficeIds,
+                     OfficeScope officeScope) {
+        this.username = username;
+        this.roles = Set.copyOf(roles);
+        this.purchasingPower = purchasingPower;
+        this.designatedOfficeIds = Set.copyOf(designatedOfficeIds);
+        this.officeScope = officeScope;
+    }
+
+    /**
+     * Capabilities of an unknown user or one without active designations.
+     */
+    public static UserCapabilities none() {
+        return NONE;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Role names as stored, e.g. {@code ROLE_ADMIN}.
+     */
+    public Set<String> getRoles() {
+        return roles;
+    }
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+    public boolean hasPurchasingPower() {
+        return purchasingPower;
+    }
+
+    /**
+     * Offices the user holds an active designation in, without their sub-offices.
+     */
+    public Set<Long> getDesignatedOfficeIds() {
+        return designatedOfficeIds;
+    }
+
+    public OfficeScope getOfficeScope() {
+        return officeScope;
+    }
+}
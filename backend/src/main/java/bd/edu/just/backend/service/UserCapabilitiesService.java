@@ -0,0 +1,169 @@
+package bd.edu.just.backend.service;
+
+import bd.edu.just.backend.config.ReadReplicaRoutingDataSource;
+import bd.edu.just.backend.model.User;
+import bd.edu.just.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves and caches {@link UserCapabilities} per user, so authentication, purchase intake
+ * and office filtering share one designation lookup instead of repeating it for every check.
+ *
+ * Snapshots are cached for {@code app.capabilities.cache-ttl} (default 30 seconds); an expired
+ * snapshot is replaced on its user's next lookup. Designation and office writes call
+ * {@link #invalidateAll()}, which only reaches this instance; on the others a revoked role
+ * lapses when the TTL runs out.
+ *
+ * Snapshots are always loaded from the primary, so a lagging replica cannot bring a revoked
+ * role back. Outside read-only transactions the caller's own connection already is one; inside
+ * them the primary pool is read directly, without suspending the caller's transaction.
+ */
+@Service
+public class UserCapabilitiesService {
+
+    private static final Set<String> UNRESTRICTED_ROLES = Set.of("ROLE_SUPER_ADMIN", "ROLE_ADMIN");
+
+    // (role name, role purchasing power, office id) for each active designation of the user
+    private static final String GRANTS_SQL =
+            "SELECT r.name, r.purchasing_power, d.office_id FROM designations d " +
+            "JOIN roles r ON r.id = d.role_id JOIN users u ON u.id = d.user_id " +
+            "WHERE u.username = ? AND d.is_active = TRUE";
+
+    private static final String PARENT_LINKS_SQL =
+            "SELECT id, parent_id FROM offices WHERE parent_id IS NOT NULL";
+
+    private final UserRepository userRepository;
+    // Joins the caller's transaction; the same pool as primaryJdbc when there is no replica
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate primaryJdbc;
+    private final long ttlNanos;
+    private final Map<String, CachedCapabilities> capabilities = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so a snapshot loaded concurrently is not cached afterwards
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserCapabilitiesService(UserRepository userRepository, DataSource dataSource,
+                                   @Value("${app.capabilities.cache-ttl:30s}") Duration ttl) throws SQLException {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.primaryJdbc = dataSource.isWrapperFor(ReadReplicaRoutingDataSource.class)
+                ? new JdbcTemplate(dataSource.unwrap(ReadReplicaRoutingDataSource.class).getPrimary())
+                : jdbcTemplate;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public UserCapabilities forUsername(String username) {
+        if (username == null) {
+            return UserCapabilities.none();
+        }
+        long now = System.nanoTime();
+        CachedCapabilities cached = capabilities.get(username);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached.capabilities();
+            }
+            capabilities.remove(username, cached);
+        }
+        long loadedAt = generation.get();
+        UserCapabilities loaded = load(username);
+        if (generation.get() == loadedAt) {
+            capabilities.put(username, new CachedCapabilities(loaded, now + ttlNanos));
+        }
+        return loaded;
+    }
+
+    public UserCapabilities forUser(User user) {
+        String username = user.getUsername();
+        if (username == null && user.getId() != null) {
+            // Callers sometimes pass a reference holding only the id
+            username = userRepository.findById(user.getId()).map(User::getUsername).orElse(null);
+        }
+        return forUsername(username);
+    }
+
+    /**
+     * Drops every cached snapshot now and again once the current transaction commits, so
+     * nothing loaded from the uncommitted state survives.
+     */
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        capabilities.clear();
+    }
+
+    private record CachedCapabilities(UserCapabilities capabilities, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    private UserCapabilities load(String username) {
+        // Read-only transactions are routed to the replica
+        JdbcTemplate jdbc = TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? primaryJdbc : jdbcTemplate;
+        List<Object[]> grants = jdbc.query(GRANTS_SQL, (rs, rowNum) ->
+                new Object[] { rs.getString(1), rs.getBoolean(2), rs.getLong(3) }, username);
+        if (grants.isEmpty()) {
+            return UserCapabilities.none();
+        }
+
+        Set<String> roles = new HashSet<>();
+        Set<Long> officeIds = new HashSet<>();
+        boolean purchasingPower = false;
+        for (Object[] grant : grants) {
+            roles.add((String) grant[0]);
+            purchasingPower |= (Boolean) grant[1];
+            officeIds.add((Long) grant[2]);
+        }
+
+        boolean unrestricted = roles.stream().anyMatch(UNRESTRICTED_ROLES::contains);
+        OfficeScope scope = unrestricted ? OfficeScope.unrestricted() : OfficeScope.of(withSubOffices(jdbc, officeIds));
+        return new UserCapabilities(username, roles, purchasingPower, officeIds, scope);
+    }
+
+    // Designations apply to the office and everything below it
+    private static Set<Long> withSubOffices(JdbcTemplate jdbc, Set<Long> assigned) {
+        Map<Long, List<Long>> children = new HashMap<>();
+        jdbc.query(PARENT_LINKS_SQL, rs -> {
+            children.computeIfAbsent(rs.getLong(2), parent -> new ArrayList<>()).add(rs.getLong(1));
+        });
+
+        Set<Long> officeIds = new HashSet<>(assigned);
+        Deque<Long> pending = new ArrayDeque<>(assigned);
+        while (!pending.isEmpty()) {
+            for (Long child : children.getOrDefault(pending.pop(), List.of())) {
+                if (officeIds.add(child)) {
+                    pending.push(child);
+                }
+            }
+        }
+        return officeIds;
+    }
+}
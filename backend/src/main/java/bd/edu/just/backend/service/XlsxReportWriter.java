@@ -0,0 +1,67 @@
+package bd.edu.just.backend.service;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Streaming XLSX through POI's SXSSF: only a small window of rows is kept in memory, the rest
+ * is flushed to a temporary file until the workbook is written out on {@link #close()}.
+ */
+public class XlsxReportWriter implements ReportWriter {
+
+    private static final int ROW_WINDOW = 100;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+    private final SXSSFSheet sheet = workbook.createSheet("Report");
+    private final CellStyle headerStyle;
+    private int rowIndex;
+
+    public XlsxReportWriter(OutputStream out) {
+        this.out = out;
+        Font bold = workbook.createFont();
+        bold.setBold(true);
+        headerStyle = workbook.createCellStyle();
+        headerStyle.setFont(bold);
+    }
+
+    @Override
+    public void writeRow(List<?> values) {
+        Row row = sheet.createRow(rowIndex);
+        for (int i = 0; i < values.size(); i++) {
+            Cell cell = row.createCell(i);
+            Object value = values.get(i);
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else if (value instanceof Boolean bool) {
+                cell.setCellValue(bool);
+            } else if (value != null) {
+                // Dates are written as ISO text, which sorts and reads the same in every locale
+                cell.setCellValue(value.toString());
+            }
+            if (rowIndex == 0) {
+                cell.setCellStyle(headerStyle);
+            }
+        }
+        rowIndex++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
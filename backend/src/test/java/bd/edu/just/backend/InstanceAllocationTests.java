@@ -0,0 +1,177 @@
+package bd.edu.just.backend;
+
+import bd.edu.just.backend.dto.ItemDistributionDTO;
+import bd.edu.just.backend.dto.ItemDistributionRequestDTO;
+import bd.edu.just.backend.dto.PurchaseDTO;
+import bd.edu.just.backend.dto.PurchaseItemDTO;
+import bd.edu.just.backend.model.Designation;
+import bd.edu.just.backend.model.DistributionStatus;
+import bd.edu.just.backend.model.Item;
+import bd.edu.just.backend.model.ItemCategory;
+import bd.edu.just.backend.model.User;
+import bd.edu.just.backend.repository.DesignationRepository;
+import bd.edu.just.backend.repository.ItemCategoryRepository;
+import bd.edu.just.backend.repository.ItemRepository;
+import bd.edu.just.backend.repository.OfficeRepository;
+import bd.edu.just.backend.repository.RoleRepository;
+import bd.edu.just.backend.repository.UserRepository;
+import bd.edu.just.backend.service.ItemDistributionService;
+import bd.edu.just.backend.service.PurchaseService;
+import bd.edu.just.backend.service.UserCapabilitiesService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Barcoded instances follow a distribution's status: approval claims them, completion keeps
+ * them, rejection, cancellation or a return to pending puts them back in stock. Stock and
+ * in-stock instances stay in step, so purchases cannot be deleted from under a reservation.
+ */
+@SpringBootTest
+@ActiveProfiles("smoke")
+class InstanceAllocationTests {
+
+	@Autowired
+	private ItemDistributionService distributionService;
+
+	@Autowired
+	private PurchaseService purchaseService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private ItemCategoryRepository itemCategoryRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private DesignationRepository designationRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private OfficeRepository officeRepository;
+
+	@Autowired
+	private UserCapabilitiesService userCapabilitiesService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long adminId;
+	private Long officeId;
+	private Item projectors;
+
+	@BeforeEach
+	void setUp() {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				"admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+		User admin = userRepository.findByUsername("admin").orElseThrow();
+		adminId = admin.getId();
+		officeId = officeRepository.findAll().get(0).getId();
+		// The seeded admin has no designation; purchases need a purchaser with purchasing power
+		if (designationRepository.findActiveGrantsByUsername("admin").isEmpty()) {
+			designationRepository.save(new Designation(admin, roleRepository.findByName("ROLE_ADMIN").orElseThrow(),
+					officeRepository.findById(officeId).orElseThrow(), true));
+			userCapabilitiesService.invalidateAll();
+		}
+
+		ItemCategory category = new ItemCategory();
+		category.setName("Electronics " + UUID.randomUUID());
+		category.setCode("E" + UUID.randomUUID().toString().substring(0, 8));
+		Item item = new Item();
+		item.setName("Projector");
+		item.setCode("PJ" + UUID.randomUUID().toString().substring(0, 6));
+		item.setCategory(itemCategoryRepository.save(category));
+		item.setQuantity(0);
+		projectors = itemRepository.save(item);
+	}
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void completionKeepsInstancesAndCancellationReleasesThem() {
+		purchase(3);
+		ItemDistributionDTO distribution = distribute(2);
+
+		setStatus(distribution, DistributionStatus.APPROVED);
+		assertThat(instances("DISTRIBUTED")).isEqualTo(2);
+
+		setStatus(distribution, DistributionStatus.COMPLETED);
+		assertThat(instances("DISTRIBUTED")).isEqualTo(2);
+
+		setStatus(distribution, DistributionStatus.CANCELLED);
+		assertThat(instances("DISTRIBUTED")).isZero();
+		assertThat(instances("IN_STOCK")).isEqualTo(3);
+	}
+
+	@Test
+	void approvalBeyondInStockInstancesIsRejected() {
+		purchase(2);
+		// Stock the instances do not account for
+		jdbcTemplate.update("UPDATE items SET quantity = quantity + 1 WHERE id = ?", projectors.getId());
+		ItemDistributionDTO distribution = distribute(3);
+
+		assertThatThrownBy(() -> setStatus(distribution, DistributionStatus.APPROVED))
+				.hasMessageContaining("Only 2 of 3 instance(s)");
+
+		assertThat(instances("DISTRIBUTED")).isZero();
+		assertThat(distributionService.getDistributionById(distribution.getId()).getStatus())
+				.isEqualTo(DistributionStatus.PENDING.name());
+	}
+
+	@Test
+	void purchaseReservedByPendingDistributionCannotBeDeleted() {
+		PurchaseDTO purchase = purchase(2);
+		distribute(2);
+
+		assertThatThrownBy(() -> purchaseService.deletePurchase(purchase.getId()))
+				.isInstanceOf(IllegalStateException.class);
+
+		assertThat(instances("IN_STOCK")).isEqualTo(2);
+		assertThat(itemRepository.findById(projectors.getId()).orElseThrow().getQuantity()).isZero();
+	}
+
+	private PurchaseDTO purchase(int quantity) {
+		PurchaseDTO purchase = new PurchaseDTO();
+		purchase.setVendorName("Dhaka Electronics");
+		purchase.setPurchasedById(adminId);
+		purchase.setItems(List.of(new PurchaseItemDTO(projectors.getId(), quantity, 500.0)));
+		return purchaseService.createPurchase(purchase);
+	}
+
+	private ItemDistributionDTO distribute(int quantity) {
+		return distributionService.createDistribution(new ItemDistributionRequestDTO(projectors.getId(), officeId,
+				adminId, quantity, null, null, null));
+	}
+
+	private void setStatus(ItemDistributionDTO distribution, DistributionStatus status) {
+		ItemDistributionRequestDTO request = new ItemDistributionRequestDTO();
+		request.setStatus(status);
+		distributionService.updateDistribution(distribution.getId(), request);
+	}
+
+	private int instances(String status) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item_instances WHERE item_id = ? AND status = ?",
+				Integer.class, projectors.getId(), status);
+	}
+}
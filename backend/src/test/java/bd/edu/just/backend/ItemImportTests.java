@@ -0,0 +1,173 @@
+package bd.edu.just.backend;
+
+import bd.edu.just.backend.dto.ItemImportErrorDTO;
+import bd.edu.just.backend.dto.ItemImportResultDTO;
+import bd.edu.just.backend.model.Item;
+import bd.edu.just.backend.model.ItemCategory;
+import bd.edu.just.backend.model.Unit;
+import bd.edu.just.backend.repository.ItemCategoryRepository;
+import bd.edu.just.backend.repository.ItemRepository;
+import bd.edu.just.backend.repository.UnitRepository;
+import bd.edu.just.backend.service.ItemImportService;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ItemImportService against the in-memory database: CSV and XLSX input, header aliases,
+ * duplicate codes and rows rejected by validation or by the database.
+ */
+@SpringBootTest
+@ActiveProfiles("smoke")
+class ItemImportTests {
+
+	@Autowired
+	private ItemImportService itemImportService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private ItemCategoryRepository itemCategoryRepository;
+
+	@Autowired
+	private UnitRepository unitRepository;
+
+	// Codes are unique across the shared database, so every test uses its own prefix
+	private String prefix;
+	private String categoryCode;
+	private String unitSymbol;
+
+	@BeforeEach
+	void setUp() {
+		prefix = "IMP" + UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+
+		ItemCategory category = new ItemCategory();
+		category.setName("Stationery " + prefix);
+		category.setCode("C" + prefix);
+		categoryCode = itemCategoryRepository.save(category).getCode();
+
+		Unit unit = new Unit();
+		unit.setName("Ream " + prefix);
+		unit.setSymbol("r" + prefix.toLowerCase());
+		unitSymbol = unitRepository.save(unit).getSymbol();
+	}
+
+	@Test
+	void importsCsvWithAliasedHeaders() throws IOException {
+		ItemImportResultDTO result = importCsv(
+				"Name,Code,Category Code,Unit Symbol,Qty,Description\n" +
+				"Paper," + prefix + "-1," + categoryCode + "," + unitSymbol + ",12,\"A4, 80 gsm\"\n" +
+				"Stapler," + prefix + "-2," + categoryCode + ",,,\n");
+
+		assertThat(result.getTotalRows()).isEqualTo(2);
+		assertThat(result.getImportedCount()).isEqualTo(2);
+		assertThat(result.getErrors()).isEmpty();
+
+		Item paper = item(prefix + "-1");
+		assertThat(paper.getQuantity()).isEqualTo(12);
+		assertThat(paper.getDescription()).isEqualTo("A4, 80 gsm");
+		assertThat(paper.getUnit().getSymbol()).isEqualTo(unitSymbol);
+		assertThat(item(prefix + "-2").getQuantity()).isZero();
+	}
+
+	@Test
+	void importsXlsx() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+			Sheet sheet = workbook.createSheet();
+			Row header = sheet.createRow(0);
+			header.createCell(0).setCellValue("name");
+			header.createCell(1).setCellValue("code");
+			header.createCell(2).setCellValue("category");
+			header.createCell(3).setCellValue("quantity");
+			Row row = sheet.createRow(1);
+			row.createCell(0).setCellValue("Marker");
+			row.createCell(1).setCellValue(prefix + "-1");
+			row.createCell(2).setCellValue(categoryCode);
+			row.createCell(3).setCellValue(7.0);
+			workbook.write(out);
+		}
+
+		ItemImportResultDTO result = itemImportService.importItems(new ByteArrayInputStream(out.toByteArray()),
+				"items.xlsx");
+
+		assertThat(result.getImportedCount()).isEqualTo(1);
+		assertThat(result.getErrors()).isEmpty();
+		assertThat(item(prefix + "-1").getQuantity()).isEqualTo(7);
+	}
+
+	@Test
+	void rejectsDuplicateCodes() throws IOException {
+		importCsv("name,code,category\nPen," + prefix + "-1," + categoryCode + "\n");
+
+		ItemImportResultDTO result = importCsv(
+				"name,code,category\n" +
+				"Pen again," + prefix + "-1," + categoryCode + "\n" +
+				"Pencil," + prefix + "-2," + categoryCode + "\n" +
+				"Pencil again," + prefix.toLowerCase() + "-2," + categoryCode + "\n");
+
+		assertThat(result.getImportedCount()).isEqualTo(1);
+		assertThat(result.getErrors()).extracting(ItemImportErrorDTO::getRowNumber).containsExactly(2L, 4L);
+		assertThat(result.getErrors()).extracting(ItemImportErrorDTO::getMessage)
+				.allMatch(message -> message.startsWith("Item code already exists"));
+		assertThat(item(prefix + "-2").getName()).isEqualTo("Pencil");
+	}
+
+	@Test
+	void reportsInvalidRows() throws IOException {
+		ItemImportResultDTO result = importCsv(
+				"name,code,category,unit,quantity\n" +
+				"," + prefix + "-1," + categoryCode + ",,\n" +
+				"Glue," + prefix + "-2,no-such-category,,\n" +
+				"Tape," + prefix + "-3," + categoryCode + ",no-such-unit,\n" +
+				"Clips," + prefix + "-4," + categoryCode + ",,2.7\n" +
+				"Pins," + prefix + "-5," + categoryCode + ",,-1\n" +
+				"Folders," + prefix + "-6," + categoryCode + ",,3.0\n");
+
+		assertThat(result.getTotalRows()).isEqualTo(6);
+		assertThat(result.getImportedCount()).isEqualTo(1);
+		assertThat(result.getErrors()).extracting(ItemImportErrorDTO::getMessage).containsExactly(
+				"Name is required",
+				"Category not found: no-such-category",
+				"Unit not found: no-such-unit",
+				"Invalid quantity: 2.7",
+				"Quantity must be 0 or greater");
+		assertThat(item(prefix + "-6").getQuantity()).isEqualTo(3);
+		assertThat(itemRepository.findByCode(prefix + "-4")).isEmpty();
+	}
+
+	@Test
+	void codeOfRowRejectedByDatabaseStaysAvailable() throws IOException {
+		ItemImportResultDTO result = importCsv(
+				"name,code,category\n" +
+				"x".repeat(300) + "," + prefix + "-1," + categoryCode + "\n" +
+				"Envelope," + prefix + "-1," + categoryCode + "\n");
+
+		assertThat(result.getImportedCount()).isEqualTo(1);
+		assertThat(result.getErrors()).extracting(ItemImportErrorDTO::getRowNumber).containsExactly(2L);
+		assertThat(item(prefix + "-1").getName()).isEqualTo("Envelope");
+	}
+
+	private ItemImportResultDTO importCsv(String csv) throws IOException {
+		return itemImportService.importItems(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+				"items.csv");
+	}
+
+	private Item item(String code) {
+		return itemRepository.findByCode(code).orElseThrow();
+	}
+}
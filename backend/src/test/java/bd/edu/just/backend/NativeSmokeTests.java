@@ -0,0 +1,100 @@
+package bd.edu.just.backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end checks of the main API paths: login and JWT round trip, entity reads through
+ * JPA and the OpenAPI document. Run natively with {@code mvn -PnativeTest test} to verify
+ * the runtime hints in NativeHintsConfig.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("smoke")
+class NativeSmokeTests {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	private HttpHeaders authHeaders;
+
+	@BeforeEach
+	void login() {
+		ResponseEntity<JsonNode> response = restTemplate.postForEntity("/api/auth/login",
+				Map.of("username", "admin", "password", "admin123"), JsonNode.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody().path("user").path("username").asText()).isEqualTo("admin");
+		String token = response.getBody().path("token").asText();
+		assertThat(token).isNotBlank();
+
+		authHeaders = new HttpHeaders();
+		authHeaders.setBearerAuth(token);
+	}
+
+	@Test
+	void rejectsRequestsWithoutToken() {
+		ResponseEntity<String> response = restTemplate.getForEntity("/api/items", String.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+	}
+
+	@Test
+	void readsSeededOffices() {
+		ResponseEntity<JsonNode> response = get("/api/offices");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody().isArray()).isTrue();
+		assertThat(response.getBody().size()).isPositive();
+	}
+
+	@Test
+	void readsCatalogue() {
+		assertThat(get("/api/items").getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(get("/api/categories").getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(get("/api/units").getStatusCode()).isEqualTo(HttpStatus.OK);
+	}
+
+	@Test
+	void catalogueEtagChangesWithCommittedWrite() {
+		String etag = get("/api/units").getHeaders().getETag();
+		assertThat(etag).isNotNull();
+
+		HttpHeaders conditional = new HttpHeaders();
+		conditional.putAll(authHeaders);
+		conditional.setIfNoneMatch(etag);
+		assertThat(restTemplate.exchange("/api/units", HttpMethod.GET, new HttpEntity<>(conditional), String.class)
+				.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+		ResponseEntity<JsonNode> created = restTemplate.exchange("/api/units", HttpMethod.POST,
+				new HttpEntity<>(Map.of("name", "Dozen " + System.nanoTime(), "symbol", "dz"), authHeaders), JsonNode.class);
+		assertThat(created.getStatusCode().is2xxSuccessful()).isTrue();
+		assertThat(get("/api/units").getHeaders().getETag()).isNotEqualTo(etag);
+	}
+
+	@Test
+	void servesOpenApiDocument() {
+		ResponseEntity<JsonNode> response = restTemplate.getForEntity("/v3/api-docs/public", JsonNode.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody().path("info").path("title").asText()).isEqualTo("Inventory Management API");
+		assertThat(response.getBody().path("paths").has("/api/auth/login")).isTrue();
+	}
+
+	private ResponseEntity<JsonNode> get(String path) {
+		return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(authHeaders), JsonNode.class);
+	}
+}
@@ -0,0 +1,93 @@
+package bd.edu.just.backend;
+
+import bd.edu.just.backend.service.OutboxEventHandler;
+import bd.edu.just.backend.service.TransactionalOutbox;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Retry path of OutboxDispatcher: an event that fails backs off and is delivered again, and the
+ * later events with its ordering key wait for it instead of overtaking it.
+ */
+@SpringBootTest
+@ActiveProfiles("smoke")
+class OutboxRetryTests {
+
+	private static final String EVENT_TYPE = "test.quantity-change";
+
+	@TestConfiguration
+	static class HandlerConfig {
+
+		@Bean
+		FlakyHandler flakyHandler() {
+			return new FlakyHandler();
+		}
+	}
+
+	// Records the changes it applies; increases fail while failuresLeft is positive
+	static class FlakyHandler implements OutboxEventHandler<Integer> {
+
+		private final AtomicInteger failuresLeft = new AtomicInteger();
+		private final List<Integer> applied = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String getEventType() {
+			return EVENT_TYPE;
+		}
+
+		@Override
+		public Class<Integer> getPayloadType() {
+			return Integer.class;
+		}
+
+		@Override
+		public void handle(List<Integer> changes) {
+			for (Integer change : changes) {
+				if (change > 0 && failuresLeft.getAndDecrement() > 0) {
+					throw new IllegalStateException("Simulated failure applying " + change);
+				}
+			}
+			applied.addAll(changes);
+		}
+	}
+
+	@Autowired
+	private TransactionalOutbox transactionalOutbox;
+
+	@Autowired
+	private FlakyHandler handler;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void failedEventIsRetriedBeforeLaterEventsOfItsKey() throws InterruptedException {
+		// Fails as part of the batch and again on its own, so it is scheduled for a retry
+		handler.failuresLeft.set(2);
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			transactionalOutbox.append(EVENT_TYPE, "test:1", 5);
+			transactionalOutbox.append(EVENT_TYPE, "test:1", -5);
+		});
+
+		long deadline = System.currentTimeMillis() + 15_000;
+		while (handler.applied.size() < 2 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+		}
+
+		assertThat(handler.failuresLeft.get()).isNegative();
+		assertThat(handler.applied).containsExactly(5, -5);
+	}
+}
@@ -0,0 +1,249 @@
+package bd.edu.just.backend;
+
+import bd.edu.just.backend.dto.PurchaseDTO;
+import bd.edu.just.backend.dto.PurchaseItemDTO;
+import bd.edu.just.backend.model.Designation;
+import bd.edu.just.backend.model.Item;
+import bd.edu.just.backend.model.ItemCategory;
+import bd.edu.just.backend.model.User;
+import bd.edu.just.backend.repository.DesignationRepository;
+import bd.edu.just.backend.repository.ItemCategoryRepository;
+import bd.edu.just.backend.repository.ItemRepository;
+import bd.edu.just.backend.repository.OfficeRepository;
+import bd.edu.just.backend.repository.RoleRepository;
+import bd.edu.just.backend.repository.UserRepository;
+import bd.edu.just.backend.service.BarcodeLabelService;
+import bd.edu.just.backend.service.OfficeScope;
+import bd.edu.just.backend.service.PurchaseService;
+import bd.edu.just.backend.service.UserCapabilitiesService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Stock and instance bookkeeping of PurchaseService. updatePurchase diffs the submitted lines
+ * against the stored ones: matched lines only insert or retire their delta, unmatched lines
+ * are added or retired whole, and stock moves by the net change per item. deletePurchase only
+ * takes the instances it retires back out of stock. Retired instances drop off the label sheets.
+ */
+@SpringBootTest
+@ActiveProfiles("smoke")
+class PurchaseStockTests {
+
+	@Autowired
+	private PurchaseService purchaseService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private ItemCategoryRepository itemCategoryRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private DesignationRepository designationRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private OfficeRepository officeRepository;
+
+	@Autowired
+	private UserCapabilitiesService userCapabilitiesService;
+
+	@Autowired
+	private BarcodeLabelService barcodeLabelService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long adminId;
+	private Item chairs;
+	private Item tables;
+
+	@BeforeEach
+	void setUp() {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				"admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+		User admin = userRepository.findByUsername("admin").orElseThrow();
+		adminId = admin.getId();
+		// The seeded admin has no designation; purchases need a purchaser with purchasing power
+		if (designationRepository.findActiveGrantsByUsername("admin").isEmpty()) {
+			designationRepository.save(new Designation(admin, roleRepository.findByName("ROLE_ADMIN").orElseThrow(),
+					officeRepository.findAll().get(0), true));
+			userCapabilitiesService.invalidateAll();
+		}
+
+		ItemCategory category = new ItemCategory();
+		category.setName("Furniture " + UUID.randomUUID());
+		category.setCode("F" + UUID.randomUUID().toString().substring(0, 8));
+		category = itemCategoryRepository.save(category);
+		chairs = createItem(category, "Chair");
+		tables = createItem(category, "Table");
+	}
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void matchedLineOnlyInsertsTheIncrease() {
+		PurchaseDTO purchase = purchaseService.createPurchase(purchase(line(chairs, 3, 100.0)));
+		List<String> original = barcodes(purchase.getId(), "IN_STOCK");
+
+		PurchaseItemDTO chairLine = purchase.getItems().get(0);
+		chairLine.setQuantity(5);
+		purchaseService.updatePurchase(purchase.getId(), withLines(purchase, chairLine));
+
+		assertThat(barcodes(purchase.getId(), "IN_STOCK")).hasSize(5).containsAll(original);
+		assertThat(barcodes(purchase.getId(), "RETIRED")).isEmpty();
+		assertThat(stock(chairs)).isEqualTo(5);
+	}
+
+	@Test
+	void lineWithoutIdMatchesByItem() {
+		PurchaseDTO purchase = purchaseService.createPurchase(purchase(line(chairs, 3, 100.0)));
+
+		purchaseService.updatePurchase(purchase.getId(), withLines(purchase, line(chairs, 2, 100.0)));
+
+		assertThat(barcodes(purchase.getId(), "IN_STOCK")).hasSize(2);
+		assertThat(barcodes(purchase.getId(), "RETIRED")).hasSize(1);
+		assertThat(stock(chairs)).isEqualTo(2);
+	}
+
+	@Test
+	void replacedItemRetiresOldLineAndAddsNewOne() {
+		PurchaseDTO purchase = purchaseService.createPurchase(purchase(line(chairs, 3, 100.0), line(tables, 2, 400.0)));
+
+		PurchaseItemDTO tableLine = purchase.getItems().stream()
+				.filter(line -> line.getItemId().equals(tables.getId()))
+				.findFirst()
+				.orElseThrow();
+		purchaseService.updatePurchase(purchase.getId(), withLines(purchase, tableLine, line(chairs, 1, 120.0)));
+
+		assertThat(stock(chairs)).isEqualTo(1);
+		assertThat(stock(tables)).isEqualTo(2);
+		assertThat(instanceCount(purchase.getId(), chairs, "IN_STOCK")).isEqualTo(1);
+		assertThat(instanceCount(purchase.getId(), chairs, "RETIRED")).isEqualTo(2);
+		assertThat(instanceCount(purchase.getId(), tables, "IN_STOCK")).isEqualTo(2);
+	}
+
+	@Test
+	void priceChangeRepricesRemainingInstances() {
+		PurchaseDTO purchase = purchaseService.createPurchase(purchase(line(chairs, 3, 100.0)));
+
+		PurchaseItemDTO chairLine = purchase.getItems().get(0);
+		chairLine.setUnitPrice(90.0);
+		PurchaseDTO updated = purchaseService.updatePurchase(purchase.getId(), withLines(purchase, chairLine));
+
+		assertThat(updated.getTotalPrice()).isEqualTo(270.0);
+		assertThat(jdbcTemplate.queryForList("SELECT DISTINCT unit_price FROM item_instances WHERE purchase_id = ?",
+				Double.class, purchase.getId())).containsExactly(90.0);
+		assertThat(stock(chairs)).isEqualTo(3);
+	}
+
+	@Test
+	void retireShortfallRejectsUpdateAndRollsBack() {
+		PurchaseDTO purchase = purchaseService.createPurchase(purchase(line(chairs, 2, 100.0)));
+		jdbcTemplate.update("UPDATE item_instances SET status = 'DISTRIBUTED' WHERE barcode = ?",
+				barcodes(purchase.getId(), "IN_STOCK").get(0));
+
+		assertThatThrownBy(() -> purchaseService.updatePurchase(purchase.getId(),
+				withLines(purchase, line(tables, 1, 400.0))))
+				.hasMessageContaining("only 1 are still in stock");
+
+		assertThat(instanceCount(purchase.getId(), chairs, "IN_STOCK")).isEqualTo(1);
+		assertThat(instanceCount(purchase.getId(), chairs, "RETIRED")).isZero();
+		assertThat(instanceCount(purchase.getId(), tables, "IN_STOCK")).isZero();
+		assertThat(stock(chairs)).isEqualTo(2);
+		assertThat(stock(tables)).isZero();
+	}
+
+	@Test
+	void deleteOnlyReversesUnitsStillInStock() {
+		PurchaseDTO purchase = purchaseService.createPurchase(purchase(line(chairs, 3, 100.0), line(tables, 1, 400.0)));
+		// What an approved distribution of one chair leaves behind
+		jdbcTemplate.update("UPDATE item_instances SET status = 'DISTRIBUTED' WHERE barcode = ?",
+				barcodes(purchase.getId(), "IN_STOCK").get(0));
+		jdbcTemplate.update("UPDATE items SET quantity = quantity - 1 WHERE id = ?", chairs.getId());
+
+		purchaseService.deletePurchase(purchase.getId());
+		purchaseService.deletePurchase(purchase.getId());
+
+		assertThat(stock(chairs)).isZero();
+		assertThat(stock(tables)).isZero();
+		assertThat(instanceCount(purchase.getId(), chairs, "DISTRIBUTED")).isEqualTo(1);
+		assertThat(instanceCount(purchase.getId(), chairs, "RETIRED")).isEqualTo(2);
+		assertThat(instanceCount(purchase.getId(), tables, "RETIRED")).isEqualTo(1);
+	}
+
+	@Test
+	void retiredInstancesGetNoLabels() {
+		PurchaseDTO purchase = purchaseService.createPurchase(purchase(line(chairs, 3, 100.0)));
+		List<String> original = barcodes(purchase.getId(), "IN_STOCK");
+
+		purchaseService.updatePurchase(purchase.getId(), withLines(purchase, line(chairs, 1, 100.0)));
+
+		assertThat(barcodeLabelService.countPurchaseLabels(purchase.getId())).isEqualTo(1);
+		assertThat(barcodeLabelService.countRangeLabels(original.get(0), original.get(2), OfficeScope.unrestricted()))
+				.isEqualTo(1);
+	}
+
+	private Item createItem(ItemCategory category, String name) {
+		Item item = new Item();
+		item.setName(name);
+		item.setCode(name.substring(0, 2).toUpperCase() + UUID.randomUUID().toString().substring(0, 6));
+		item.setCategory(category);
+		item.setQuantity(0);
+		return itemRepository.save(item);
+	}
+
+	private PurchaseDTO purchase(PurchaseItemDTO... lines) {
+		PurchaseDTO purchase = new PurchaseDTO();
+		purchase.setVendorName("Bengal Traders");
+		purchase.setPurchasedById(adminId);
+		purchase.setItems(List.of(lines));
+		return purchase;
+	}
+
+	private PurchaseDTO withLines(PurchaseDTO stored, PurchaseItemDTO... lines) {
+		PurchaseDTO update = purchase(lines);
+		update.setPurchaseDate(stored.getPurchaseDate());
+		return update;
+	}
+
+	private static PurchaseItemDTO line(Item item, int quantity, double unitPrice) {
+		return new PurchaseItemDTO(item.getId(), quantity, unitPrice);
+	}
+
+	private List<String> barcodes(Long purchaseId, String status) {
+		return jdbcTemplate.queryForList("SELECT barcode FROM item_instances WHERE purchase_id = ? AND status = ? ORDER BY id",
+				String.class, purchaseId, status);
+	}
+
+	private int instanceCount(Long purchaseId, Item item, String status) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item_instances WHERE purchase_id = ? AND item_id = ? " +
+				"AND status = ?", Integer.class, purchaseId, item.getId(), status);
+	}
+
+	private int stock(Item item) {
+		return itemRepository.findById(item.getId()).orElseThrow().getQuantity();
+	}
+}
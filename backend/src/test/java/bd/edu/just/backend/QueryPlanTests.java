@@ -0,0 +1,113 @@
+package bd.edu.just.backend;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MySQL EXPLAIN of the SQL behind the hot repository queries: none of them may fall back to a
+ * full table scan (access type ALL). Needs a MySQL schema migrated with Liquibase, ideally
+ * holding production-like volumes, since on near-empty tables the optimizer may prefer a scan:
+ *
+ * <pre>
+ * mvn test -Dtest=QueryPlanTests -Dqueryplan.url=jdbc:mysql://localhost:3306/inventory \
+ *     -Dqueryplan.username=root -Dqueryplan.password=...
+ * </pre>
+ *
+ * Skipped unless {@code queryplan.url} is set. ItemRepository.searchItems is not checked: a
+ * LIKE '%term%' predicate cannot use a B-tree index.
+ */
+@EnabledIfSystemProperty(named = "queryplan.url", matches = ".+")
+class QueryPlanTests {
+
+	private static Connection connection;
+
+	@BeforeAll
+	static void connect() throws SQLException {
+		connection = DriverManager.getConnection(System.getProperty("queryplan.url"),
+				System.getProperty("queryplan.username", "root"), System.getProperty("queryplan.password", ""));
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ANALYZE TABLE item_distributions, purchases, purchase_items, item_instances, items, " +
+					"office_inventory, item_movements");
+		}
+	}
+
+	@AfterAll
+	static void disconnect() throws SQLException {
+		connection.close();
+	}
+
+	static Stream<Arguments> queries() {
+		return Stream.of(
+				Arguments.of("ItemDistributionRepository.findByDateRange",
+						"SELECT * FROM item_distributions WHERE date_distributed BETWEEN '2024-01-01' AND '2024-03-31' " +
+						"AND is_active = 1"),
+				Arguments.of("ItemDistributionRepository.findRecentDistributions",
+						"SELECT * FROM item_distributions WHERE is_active = 1 ORDER BY date_distributed DESC, id DESC LIMIT 10"),
+				Arguments.of("ItemDistributionRepository.findRecentDistributionsInOffices",
+						"SELECT * FROM item_distributions WHERE is_active = 1 AND office_id IN (1, 2, 3) " +
+						"ORDER BY date_distributed DESC, id DESC LIMIT 10"),
+				Arguments.of("ItemDistributionRepository.getTotalDistributedForItem",
+						"SELECT SUM(quantity) FROM item_distributions WHERE item_id = 1 AND is_active = 1"),
+				Arguments.of("ItemDistributionRepository.countByStatus",
+						"SELECT COUNT(*) FROM item_distributions WHERE status = 'PENDING' AND is_active = 1"),
+				Arguments.of("PurchaseRepository.findByDateRange",
+						"SELECT * FROM purchases WHERE purchase_date BETWEEN '2024-01-01' AND '2024-03-31' AND is_active = 1"),
+				Arguments.of("PurchaseRepository.findRecentPurchases",
+						"SELECT * FROM purchases WHERE is_active = 1 ORDER BY purchase_date DESC, id DESC LIMIT 10"),
+				Arguments.of("PurchaseRepository.findByVendor",
+						"SELECT * FROM purchases WHERE vendor_name = 'Bengal Traders' AND is_active = 1"),
+				Arguments.of("PurchaseRepository.getTotalQuantityPurchasedForItem",
+						"SELECT SUM(pi.quantity) FROM purchase_items pi JOIN purchases p ON p.id = pi.purchase_id " +
+						"WHERE pi.item_id = 1 AND p.is_active = 1"),
+				Arguments.of("OfficeInventoryRepository.findByOfficeAndItem",
+						"SELECT * FROM office_inventory WHERE office_id = 1 AND item_id = 1"),
+				Arguments.of("OfficeInventoryRepository.findAvailableItemsByOffice",
+						"SELECT * FROM office_inventory WHERE office_id = 1 AND quantity > 0 ORDER BY last_updated DESC"),
+				Arguments.of("OfficeInventoryRepository.getTotalQuantityByItem",
+						"SELECT SUM(quantity) FROM office_inventory WHERE item_id = 1"),
+				Arguments.of("ItemInstanceRepository.findAvailableByItemId",
+						"SELECT * FROM item_instances WHERE item_id = 1 AND status = 'IN_STOCK'"),
+				Arguments.of("ItemInstanceRepository.findByOfficeId",
+						"SELECT * FROM item_instances WHERE distributed_to_office_id = 1"),
+				Arguments.of("ItemInstanceRepository.findByPurchaseId",
+						"SELECT * FROM item_instances WHERE purchase_id = 1"),
+				Arguments.of("ItemInstanceRepository.countByBarcodeStartingWith",
+						"SELECT COUNT(*) FROM item_instances WHERE barcode LIKE '20240101-ITM001-%'"),
+				Arguments.of("ItemRepository.findLowStockItems",
+						"SELECT * FROM items WHERE quantity < 10 AND is_active = 1"),
+				Arguments.of("ItemRepository.getTotalStock",
+						"SELECT SUM(quantity) FROM items WHERE is_active = 1"),
+				Arguments.of("ItemMovementRepository.findByDateRange",
+						"SELECT * FROM item_movements WHERE date_moved BETWEEN '2024-01-01' AND '2024-03-31' AND is_active = 1"));
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("queries")
+	void queryDoesNotScanFullTable(String query, String sql) throws SQLException {
+		List<String> fullScans = new ArrayList<>();
+		try (Statement statement = connection.createStatement();
+			 ResultSet plan = statement.executeQuery("EXPLAIN " + sql)) {
+			while (plan.next()) {
+				if ("ALL".equals(plan.getString("type"))) {
+					fullScans.add(plan.getString("table"));
+				}
+			}
+		}
+		assertThat(fullScans).as("tables scanned in full by %s", query).isEmpty();
+	}
+}
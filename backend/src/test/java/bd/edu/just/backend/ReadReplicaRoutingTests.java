@@ -0,0 +1,103 @@
+package bd.edu.just.backend;
+
+import bd.edu.just.backend.config.ReadReplicaRoutingDataSource;
+import bd.edu.just.backend.service.UserCapabilities;
+import bd.edu.just.backend.service.UserCapabilitiesService;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ReadReplicaRoutingDataSource} against two in-memory H2 databases standing in for the
+ * primary and the replica; each holds a marker row naming itself, plus the tables that
+ * UserCapabilitiesService reads.
+ */
+class ReadReplicaRoutingTests {
+
+	private static ReadReplicaRoutingDataSource dataSource;
+	private static JdbcTemplate jdbcTemplate;
+	private static DataSourceTransactionManager transactionManager;
+
+	@BeforeAll
+	static void createDatabases() {
+		dataSource = new ReadReplicaRoutingDataSource(database("primary"), database("replica"));
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		transactionManager = new DataSourceTransactionManager(dataSource);
+	}
+
+	@AfterAll
+	static void close() {
+		dataSource.close();
+	}
+
+	private static DataSource database(String name) {
+		DataSource database = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate template = new JdbcTemplate(database);
+		template.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+		template.update("DELETE FROM marker");
+		template.update("INSERT INTO marker VALUES (?)", name);
+		template.execute("CREATE TABLE IF NOT EXISTS users (id BIGINT, username VARCHAR(50))");
+		template.execute("CREATE TABLE IF NOT EXISTS roles (id BIGINT, name VARCHAR(50), purchasing_power BOOLEAN)");
+		template.execute("CREATE TABLE IF NOT EXISTS offices (id BIGINT, parent_id BIGINT)");
+		template.execute("CREATE TABLE IF NOT EXISTS designations (user_id BIGINT, role_id BIGINT, office_id BIGINT, " +
+				"is_active BOOLEAN)");
+		template.update("DELETE FROM users");
+		template.update("INSERT INTO users VALUES (1, 'alice')");
+		return database;
+	}
+
+	private String marker() {
+		return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+	}
+
+	@Test
+	void readOnlyTransactionsUseTheReplica() {
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		String marker = readOnly.execute(status -> marker());
+		assertThat(marker).isEqualTo("replica");
+	}
+
+	@Test
+	void readWriteTransactionsUseThePrimary() {
+		TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+		String marker = readWrite.execute(status -> marker());
+		assertThat(marker).isEqualTo("primary");
+	}
+
+	@Test
+	void workOutsideTransactionsUsesThePrimary() {
+		assertThat(marker()).isEqualTo("primary");
+	}
+
+	@Test
+	void capabilitiesAreReadFromThePrimaryInsideReadOnlyTransactions() throws SQLException {
+		// The replica has not caught up with the admin role granted on the primary
+		JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:primary", "sa", ""));
+		primary.update("INSERT INTO roles VALUES (1, 'ROLE_ADMIN', TRUE)");
+		primary.update("INSERT INTO designations VALUES (1, 1, 7, TRUE)");
+
+		// Wrapped like the application DataSource, by the statement-counting proxy
+		UserCapabilitiesService service = new UserCapabilitiesService(null,
+				ProxyDataSourceBuilder.create(dataSource).build(), Duration.ZERO);
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		UserCapabilities capabilities = readOnly.execute(status -> service.forUsername("alice"));
+		assertThat(capabilities.getRoles()).containsExactly("ROLE_ADMIN");
+		assertThat(capabilities.hasPurchasingPower()).isTrue();
+	}
+}
@@ -0,0 +1,81 @@
+package bd.edu.just.backend;
+
+import bd.edu.just.backend.model.Item;
+import bd.edu.just.backend.model.ItemCategory;
+import bd.edu.just.backend.model.Office;
+import bd.edu.just.backend.model.Unit;
+import bd.edu.just.backend.repository.ItemCategoryRepository;
+import bd.edu.just.backend.repository.ItemRepository;
+import bd.edu.just.backend.repository.OfficeInventoryRepository;
+import bd.edu.just.backend.repository.OfficeRepository;
+import bd.edu.just.backend.repository.UnitRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Native bulk statements declare the tables they write, so Hibernate only invalidates the
+ * cache regions of those tables instead of the whole second-level cache.
+ */
+@SpringBootTest
+@ActiveProfiles("smoke")
+class SecondLevelCacheTests {
+
+	@Autowired
+	private UnitRepository unitRepository;
+
+	@Autowired
+	private ItemCategoryRepository itemCategoryRepository;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private OfficeRepository officeRepository;
+
+	@Autowired
+	private OfficeInventoryRepository officeInventoryRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void cachedUnitSurvivesOfficeInventoryUpsert() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		Unit unit = new Unit();
+		unit.setName("Box " + suffix);
+		unit.setSymbol("bx" + suffix);
+		Long unitId = unitRepository.save(unit).getId();
+
+		ItemCategory category = new ItemCategory();
+		category.setName("Supplies " + suffix);
+		category.setCode("S" + suffix);
+		Item item = new Item();
+		item.setName("Toner");
+		item.setCode("TN" + suffix);
+		item.setCategory(itemCategoryRepository.save(category));
+		item.setQuantity(0);
+		Long itemId = itemRepository.save(item).getId();
+		Long officeId = officeRepository.findAll().stream().map(Office::getId).findFirst().orElseThrow();
+
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		entityManagerFactory.getCache().evict(Unit.class);
+		transaction.executeWithoutResult(status -> unitRepository.findById(unitId).orElseThrow());
+		assertThat(entityManagerFactory.getCache().contains(Unit.class, unitId)).isTrue();
+
+		transaction.executeWithoutResult(status -> officeInventoryRepository.upsertAddQuantity(officeId, itemId, 3));
+
+		assertThat(entityManagerFactory.getCache().contains(Unit.class, unitId)).isTrue();
+	}
+}
@@ -0,0 +1,114 @@
+package bd.edu.just.backend;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of blocking request handling under many concurrent slow queries, on the default
+ * Tomcat-sized platform pool versus one virtual thread per request (the virtual-threads profile).
+ *
+ * Each simulated request makes {@link #QUERIES_PER_REQUEST} sequential repository calls, as
+ * DashboardService does, and every call holds a pooled connection for {@link #QUERY_MILLIS}.
+ * The connection pool is the same size in both runs, so the difference is down to the thread
+ * model: the platform pool can never have more than 200 queries in flight. The pool is larger
+ * than that on purpose; with the virtual-threads profile's default of 100 connections the pool,
+ * not the thread model, is the limit, so raise {@code DB_POOL_SIZE} past Tomcat's 200 threads
+ * before expecting the gain measured here.
+ *
+ * Timing-dependent, so tagged {@code load} and excluded from the default test run:
+ * {@code mvn test -Dtest=VirtualThreadLoadTests -DexcludedGroups= -Dgroups=load}.
+ */
+@Tag("load")
+class VirtualThreadLoadTests {
+
+	private static final int REQUESTS = 3000;
+	private static final int QUERIES_PER_REQUEST = 3;
+	private static final int QUERY_MILLIS = 25;
+	private static final int PLATFORM_THREADS = 200;
+	private static final int POOL_SIZE = 400;
+
+	private static HikariDataSource dataSource;
+
+	@BeforeAll
+	static void createPool() {
+		HikariConfig config = new HikariConfig();
+		config.setJdbcUrl("jdbc:h2:mem:load;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		config.setUsername("sa");
+		config.setMaximumPoolSize(POOL_SIZE);
+		config.setMinimumIdle(POOL_SIZE);
+		config.setConnectionTimeout(30_000);
+		dataSource = new HikariDataSource(config);
+	}
+
+	@AfterAll
+	static void closePool() {
+		dataSource.close();
+	}
+
+	@Test
+	void virtualThreadsSustainHigherThroughputThanPlatformPool() throws Exception {
+		// Warm up the pool and JIT so neither run pays for it
+		run(Executors.newVirtualThreadPerTaskExecutor(), POOL_SIZE);
+
+		double platform = run(Executors.newFixedThreadPool(PLATFORM_THREADS), REQUESTS);
+		double virtual = run(Executors.newVirtualThreadPerTaskExecutor(), REQUESTS);
+
+		System.out.printf("%d requests x %d queries of %d ms, pool of %d connections%n",
+				REQUESTS, QUERIES_PER_REQUEST, QUERY_MILLIS, POOL_SIZE);
+		System.out.printf("  platform threads (%d): %.0f req/s%n", PLATFORM_THREADS, platform);
+		System.out.printf("  virtual threads:        %.0f req/s%n", virtual);
+
+		// Ideal ratio is POOL_SIZE / PLATFORM_THREADS = 2; leave headroom for slow CI machines
+		assertThat(virtual).isGreaterThan(platform * 1.3);
+	}
+
+	/**
+	 * Submits {@code requests} simulated requests at once and returns the completed requests per second.
+	 */
+	private static double run(ExecutorService executor, int requests) throws Exception {
+		long start = System.nanoTime();
+		try (executor) {
+			List<Future<?>> futures = new ArrayList<>(requests);
+			for (int i = 0; i < requests; i++) {
+				futures.add(executor.submit(() -> {
+					handleRequest();
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		return requests / seconds;
+	}
+
+	private static void handleRequest() throws SQLException, InterruptedException {
+		for (int i = 0; i < QUERIES_PER_REQUEST; i++) {
+			try (Connection connection = dataSource.getConnection();
+				 Statement statement = connection.createStatement();
+				 ResultSet rs = statement.executeQuery("SELECT 1")) {
+				rs.next();
+				// Server-side query time: the request thread blocks while holding the connection,
+				// exactly as it would waiting on a socket read from MySQL
+				Thread.sleep(QUERY_MILLIS);
+			}
+		}
+	}
+}
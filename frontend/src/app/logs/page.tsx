@@ -1,11 +1,71 @@
 'use client';
 
-import React from 'react';
-import { PageHeader, PageTitle, PageSubtitle, PageToolbar } from '@/components/table';
+import React, { useEffect, useState } from 'react';
+import { PageHeader, PageTitle, PageSubtitle } from '@/components/table';
 import { Card } from '@/components/ui/card';
-import { FileText } from 'lucide-react';
+import { Button } from '@/components/ui/button';
+import { Badge } from '@/components/ui/badge';
+import {
+  Table,
+  TableBody,
+  TableCell,
+  TableHead,
+  TableHeader,
+  TableRow,
+} from '@/components/ui/table';
+import {
+  Select,
+  SelectContent,
+  SelectItem,
+  SelectTrigger,
+  SelectValue,
+} from '@/components/ui/select';
+import { getAuditLogs } from '@/services/audit_service';
+import { AuditLogPage } from '@/types/audit';
+
+const PAGE_SIZE = 50;
+
+const ENTITY_TYPES = ['Item', 'OfficeInventory', 'ItemDistribution', 'Purchase'];
+
+const actionColor = (action: string) => {
+  switch (action) {
+    case 'CREATE': return 'bg-green-100 text-green-800';
+    case 'UPDATE': return 'bg-blue-100 text-blue-800';
+    case 'DELETE': return 'bg-red-100 text-red-800';
+    default: return 'bg-gray-100 text-gray-800';
+  }
+};
 
 function LogsPageContent() {
+  const [page, setPage] = useState(0);
+  const [entityType, setEntityType] = useState('all');
+  const [logs, setLogs] = useState<AuditLogPage | null>(null);
+  const [loading, setLoading] = useState(true);
+  const [error, setError] = useState('');
+
+  useEffect(() => {
+    const fetchLogs = async () => {
+      setLoading(true);
+      setError('');
+      try {
+        const data = await getAuditLogs({
+          entityType: entityType === 'all' ? undefined : entityType,
+          page,
+          size: PAGE_SIZE,
+        });
+        setLogs(data);
+      } catch (_err) {
+        setError('Failed to load audit logs');
+      } finally {
+        setLoading(false);
+      }
+    };
+
+    fetchLogs();
+  }, [page, entityType]);
+
+  const totalPages = logs?.page.totalPages ?? 0;
+
   return (
     <div>
       {/* Toolbar: Header */}
@@ -14,16 +74,89 @@ function LogsPageContent() {
         <PageSubtitle subtitle="Track all system activities" />
       </PageHeader>
 
-      {/* Info Card */}
-      <Card className="p-12 text-center mt-4">
-        <FileText className="h-16 w-16 text-blue-600 mx-auto mb-4" />
-        <h2 className="text-2xl font-semibold text-slate-900 mb-2">
-          Activity Logs
-        </h2>
-        <p className="text-slate-600 max-w-md mx-auto">
-          Complete audit trail of all inventory operations including item additions, 
-          purchases, distributions, and user activities.
-        </p>
+      <Card className="p-4 mt-4">
+        <div className="flex items-center justify-between mb-4">
+          <Select
+            value={entityType}
+            onValueChange={(value) => {
+              setEntityType(value);
+              setPage(0);
+            }}
+          >
+            <SelectTrigger className="w-56">
+              <SelectValue placeholder="Entity" />
+            </SelectTrigger>
+            <SelectContent>
+              <SelectItem value="all">All Entities</SelectItem>
+              {ENTITY_TYPES.map((type) => (
+                <SelectItem key={type} value={type}>{type}</SelectItem>
+              ))}
+            </SelectContent>
+          </Select>
+          <span className="text-sm text-slate-600">
+            {logs ? `${logs.page.totalElements} entries` : ''}
+          </span>
+        </div>
+
+        {error && <p className="text-sm text-red-600 mb-4">{error}</p>}
+
+        <Table>
+          <TableHeader>
+            <TableRow>
+              <TableHead>Time</TableHead>
+              <TableHead>User</TableHead>
+              <TableHead>Action</TableHead>
+              <TableHead>Entity</TableHead>
+              <TableHead>Changes</TableHead>
+            </TableRow>
+          </TableHeader>
+          <TableBody>
+            {loading ? (
+              <TableRow>
+                <TableCell colSpan={5} className="text-center text-slate-500">Loading...</TableCell>
+              </TableRow>
+            ) : logs && logs.content.length > 0 ? (
+              logs.content.map((log) => (
+                <TableRow key={log.id}>
+                  <TableCell className="whitespace-nowrap">
+                    {new Date(log.createdAt).toLocaleString()}
+                  </TableCell>
+                  <TableCell>{log.username ?? '-'}</TableCell>
+                  <TableCell>
+                    <Badge className={actionColor(log.action)}>{log.action}</Badge>
+                  </TableCell>
+                  <TableCell className="whitespace-nowrap">
+                    {log.entityType} #{log.entityId}
+                  </TableCell>
+                  <TableCell className="text-xs text-slate-600 whitespace-normal break-words">
+                    {log.changes}
+                  </TableCell>
+                </TableRow>
+              ))
+            ) : (
+              <TableRow>
+                <TableCell colSpan={5} className="text-center text-slate-500">No activity recorded yet.</TableCell>
+              </TableRow>
+            )}
+          </TableBody>
+        </Table>
+
+        <div className="flex items-center justify-end gap-2 mt-4">
+          <Button variant="outline" size="sm" disabled={page === 0 || loading} onClick={() => setPage(page - 1)}>
+            Previous
+          </Button>
+          <span className="text-sm text-slate-600">
+            Page {totalPages === 0 ? 0 : page + 1} of {totalPages}
+          </span>
+          <Button
+            variant="outline"
+            size="sm"
+            disabled={page + 1 >= totalPages || loading}
+            onClick={() => setPage(page + 1)}
+          >
+            Next
+          </Button>
+        </div>
       </Card>
     </div>
   );
@@ -2,7 +2,7 @@
 
 import React, { useState, useEffect } from "react";
 import { ItemInstance } from "@/types/purchase";
-import { getPurchaseBarcodes } from "@/services/purchase_service";
+import { getPurchaseBarcodes, getPurchaseLabels } from "@/services/purchase_service";
 import { Card, CardContent, CardHeader, CardTitle } from "@/components/ui/card";
 import { Button } from "@/components/ui/button";
 import { Download, Printer } from "lucide-react";
@@ -14,6 +14,7 @@ type Props = {
 export default function BarcodeDisplay({ purchaseId }: Props) {
   const [barcodes, setBarcodes] = useState<ItemInstance[]>([]);
   const [loading, setLoading] = useState(true);
+  const [printing, setPrinting] = useState(false);
 
   useEffect(() => {
     const fetchBarcodes = async () => {
@@ -30,8 +31,19 @@ export default function BarcodeDisplay({ purchaseId }: Props) {
     fetchBarcodes();
   }, [purchaseId]);
 
-  const handlePrint = () => {
-    window.print();
+  const handlePrint = async () => {
+    setPrinting(true);
+    try {
+      const pdf = await getPurchaseLabels(purchaseId);
+      const url = URL.createObjectURL(pdf);
+      window.open(url, "_blank");
+      // Give the new tab time to load the document before releasing it
+      setTimeout(() => URL.revokeObjectURL(url), 60000);
+    } catch (error) {
+      console.error("Failed to generate labels:", error);
+    } finally {
+      setPrinting(false);
+    }
   };
 
   const handleDownload = () => {
@@ -75,9 +87,9 @@ export default function BarcodeDisplay({ purchaseId }: Props) {
               <Download className="h-4 w-4 mr-2" />
               Download CSV
             </Button>
-            <Button variant="outline" size="sm" onClick={handlePrint}>
+            <Button variant="outline" size="sm" onClick={handlePrint} disabled={printing}>
               <Printer className="h-4 w-4 mr-2" />
-              Print
+              {printing ? "Preparing..." : "Print Labels"}
             </Button>
           </div>
         </div>
@@ -3,26 +3,52 @@
 import { Card } from '@/components/ui/card';
 import { BarChart3, FileText, Download } from 'lucide-react';
 import { Button } from '@/components/ui/button';
+import { useState } from 'react';
+import { downloadReport, ReportFormat, ReportType } from '@/services/report_service';
 
 export default function ReportsPage() {
-  const reportTypes = [
+  const [downloading, setDownloading] = useState<string | null>(null);
+  const [error, setError] = useState<string | null>(null);
+
+  const handleDownload = async (type: ReportType, format: ReportFormat) => {
+    setDownloading(`${type}.${format}`);
+    setError(null);
+    try {
+      await downloadReport(type, format);
+    } catch {
+      setError('Failed to generate report');
+    } finally {
+      setDownloading(null);
+    }
+  };
+
+  const reportTypes: {
+    title: string;
+    description: string;
+    icon: typeof FileText;
+    color: string;
+    type?: ReportType;
+  }[] = [
     {
       title: 'Inventory Report',
-      description: 'Complete inventory status with stock levels',
+      description: 'Stock quantity and value by office and category',
       icon: FileText,
-      color: 'blue'
+      color: 'blue',
+      type: 'stock-valuation'
     },
     {
       title: 'Purchase Report',
-      description: 'Summary of all purchases and expenses',
+      description: 'Purchase spend by vendor',
       icon: BarChart3,
-      color: 'green'
+      color: 'green',
+      type: 'purchase-spend'
     },
     {
       title: 'Distribution Report',
-      description: 'Items distributed to offices',
+      description: 'Monthly distribution throughput by office',
       icon: FileText,
-      color: 'purple'
+      color: 'purple',
+      type: 'distribution-throughput'
     },
     {
       title: 'Low Stock Report',
@@ -51,6 +77,8 @@ export default function ReportsPage() {
         <p className="text-slate-600 mt-1">Generate comprehensive inventory reports</p>
       </div>
 
+      {error && <p className="text-sm text-red-600">{error}</p>}
+
       <div className="grid gap-6 md:grid-cols-2 lg:grid-cols-3">
         {reportTypes.map((report, index) => {
           const Icon = report.icon;
@@ -65,10 +93,27 @@ export default function ReportsPage() {
               <p className="text-sm text-slate-600 mb-4">
                 {report.description}
               </p>
-              <Button variant="outline" className="w-full">
-                <Download className="h-4 w-4 mr-2" />
-                Generate Report
-              </Button>
+              {report.type ? (
+                <div className="flex gap-2">
+                  {(['csv', 'xlsx'] as ReportFormat[]).map((format) => (
+                    <Button
+                      key={format}
+                      variant="outline"
+                      className="flex-1"
+                      disabled={downloading !== null}
+                      onClick={() => handleDownload(report.type!, format)}
+                    >
+                      <Download className="h-4 w-4 mr-2" />
+                      {downloading === `${report.type}.${format}` ? 'Generating...' : format.toUpperCase()}
+                    </Button>
+                  ))}
+                </div>
+              ) : (
+                <Button variant="outline" className="w-full" disabled>
+                  <Download className="h-4 w-4 mr-2" />
+                  Generate Report
+                </Button>
+              )}
             </Card>
           );
         })}
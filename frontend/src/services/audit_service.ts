@@ -0,0 +1,11 @@
+import api from "@/lib/api";
+import { AuditLogPage, AuditLogQuery } from "@/types/audit";
+
+export const ENDPOINTS = {
+  get_audit_logs: "/audit-logs",
+};
+
+export const getAuditLogs = async (query: AuditLogQuery = {}): Promise<AuditLogPage> => {
+  const response = await api.get(ENDPOINTS.get_audit_logs, { params: query });
+  return response.data;
+};
@@ -5,6 +5,8 @@ export const ENDPOINTS = {
   get_purchases: "/purchases",
   purchase_by_id: (id: number) => `/purchases/${id}`,
   purchase_barcodes: (id: number) => `/purchases/${id}/barcodes`,
+  purchase_labels: (id: number) => `/purchases/${id}/labels`,
+  barcode_range_labels: "/purchases/labels",
   barcode_search: (barcode: string) => `/purchases/barcode/${barcode}`,
   create_purchase: "/purchases",
   recent_purchases: "/purchases/recent",
@@ -68,6 +70,20 @@ export const getPurchaseBarcodes = async (id: number): Promise<ItemInstance[]> =
   return response.data;
 };
 
+// Printable Code128 label sheet (PDF) rendered by the backend
+export const getPurchaseLabels = async (id: number): Promise<Blob> => {
+  const response = await api.get(ENDPOINTS.purchase_labels(id), { responseType: "blob" });
+  return response.data;
+};
+
+export const getBarcodeRangeLabels = async (from: string, to: string): Promise<Blob> => {
+  const response = await api.get(ENDPOINTS.barcode_range_labels, {
+    params: { from, to },
+    responseType: "blob",
+  });
+  return response.data;
+};
+
 export const getItemInstanceByBarcode = async (barcode: string): Promise<ItemInstance> => {
   const response = await api.get(ENDPOINTS.barcode_search(barcode));
   return response.data;
@@ -0,0 +1,40 @@
+import api from "@/lib/api";
+
+export type ReportType = "stock-valuation" | "purchase-spend" | "distribution-throughput";
+export type ReportFormat = "csv" | "xlsx";
+
+export interface ReportParams {
+  startDate?: string;
+  endDate?: string;
+  officeId?: number;
+  categoryId?: number;
+}
+
+export const ENDPOINTS = {
+  report: (type: ReportType) => `/reports/${type}`,
+};
+
+// Reports are aggregated and streamed by the backend; the browser only saves the file.
+export const downloadReport = async (
+  type: ReportType,
+  format: ReportFormat,
+  params: ReportParams = {}
+): Promise<void> => {
+  const response = await api.get(ENDPOINTS.report(type), {
+    params: { ...params, format },
+    responseType: "blob",
+  });
+
+  const disposition: string | undefined = response.headers["content-disposition"];
+  const match = disposition?.match(/filename="?([^";]+)"?/);
+  const filename = match ? match[1] : `${type}.${format}`;
+
+  const url = URL.createObjectURL(response.data);
+  const link = document.createElement("a");
+  link.href = url;
+  link.download = filename;
+  document.body.appendChild(link);
+  link.click();
+  link.remove();
+  URL.revokeObjectURL(url);
+};
@@ -0,0 +1,27 @@
+export interface AuditLog {
+  id: number;
+  entityType: string;
+  entityId?: number;
+  action: "CREATE" | "UPDATE" | "DELETE";
+  username?: string;
+  changes?: string;
+  createdAt: string;
+}
+
+export interface AuditLogPage {
+  content: AuditLog[];
+  page: {
+    size: number;
+    number: number;
+    totalElements: number;
+    totalPages: number;
+  };
+}
+
+export interface AuditLogQuery {
+  entityType?: string;
+  entityId?: number;
+  username?: string;
+  page?: number;
+  size?: number;
+}